@@ -0,0 +1,43 @@
+package picto.com.photostore.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PhotoResponseBenchmark {
+
+    @Param({"picto-photos/3f2a_photo.jpg", "picto-photos/3f2a_photo.PNG", "picto-photos/3f2a_photo.heic"})
+    private String s3FileName;
+
+    private Photo photo;
+
+    @Setup
+    public void setUp() {
+        photo = Photo.builder()
+                .photoId(1L)
+                .photoPath("https://picto-fixture.s3.local/" + s3FileName)
+                .s3FileName(s3FileName)
+                .tag("tag")
+                .lat(37.5665)
+                .lng(126.9780)
+                .location("Seoul")
+                .likes(3)
+                .views(10)
+                .frameActive(false)
+                .sharedActive(true)
+                .build();
+    }
+
+    @Benchmark
+    public PhotoResponse from() {
+        return PhotoResponse.from(photo);
+    }
+
+    @Benchmark
+    public String determineContentType() {
+        return PhotoResponse.determineContentType(s3FileName);
+    }
+}
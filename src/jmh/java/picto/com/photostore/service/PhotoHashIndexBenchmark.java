@@ -0,0 +1,73 @@
+package picto.com.photostore.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// 유사 사진 조회(해밍 거리 maxDistance 이내) 지연 시간: 무작위 64비트 해시 population개의 인덱스와 전체 비교
+// 무작위 해시는 조각 버킷에 고르게 퍼지므로, 비슷한 사진이 몰린 실제 데이터에서는 버킷이 커져 더 느릴 수 있음
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class PhotoHashIndexBenchmark {
+    private static final int QUERIES = 1024;
+    private static final int LIMIT = 20;
+
+    @Param({"100000", "1000000", "3000000"})
+    private int population;
+
+    @Param({"10"})
+    private int maxDistance;
+
+    private PhotoHashIndex index;
+    private long[] hashes;
+    private long[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        // 조회만 측정하므로 DB(저장소)는 쓰지 않음
+        index = new PhotoHashIndex(null);
+        hashes = new long[population];
+        for (int i = 0; i < population; i++) {
+            hashes[i] = random.nextLong();
+            index.add((long) i + 1, hashes[i]);
+        }
+        // 유사 사진 조회처럼 기존 해시에서 0~maxDistance 비트만 다른 질의
+        queries = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long query = hashes[random.nextInt(population)];
+            int flips = random.nextInt(maxDistance + 1);
+            for (int f = 0; f < flips; f++) {
+                query ^= 1L << random.nextInt(Long.SIZE);
+            }
+            queries[i] = query;
+        }
+    }
+
+    @Benchmark
+    public List<PhotoHashIndex.Match> findSimilar() {
+        return index.findSimilar(nextQuery(), maxDistance, null, LIMIT);
+    }
+
+    // 비교 기준: 인덱스 없이 전체 해시와 비교
+    @Benchmark
+    public int linearScan() {
+        long query = nextQuery();
+        int matches = 0;
+        for (long hash : hashes) {
+            if (PerceptualHashService.distance(hash, query) <= maxDistance) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private long nextQuery() {
+        return queries[next++ & (QUERIES - 1)];
+    }
+}
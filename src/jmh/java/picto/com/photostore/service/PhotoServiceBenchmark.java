@@ -0,0 +1,30 @@
+package picto.com.photostore.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockMultipartFile;
+import picto.com.photostore.fixture.SampleImages;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PhotoServiceBenchmark {
+
+    @Param({"102400", "5242880"})
+    private int fileSize;
+
+    private MockMultipartFile file;
+
+    @Setup
+    public void setUp() {
+        file = new MockMultipartFile("file", "photo.jpg", "image/jpeg", SampleImages.randomBytes(fileSize, 42));
+    }
+
+    @Benchmark
+    public void validateFile(Blackhole blackhole) {
+        PhotoService.validateFile(file);
+        blackhole.consume(file);
+    }
+}
@@ -0,0 +1,72 @@
+package picto.com.photostore.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import picto.com.photostore.domain.PhotoResponse;
+import picto.com.photostore.domain.PhotoUploadRequest;
+import picto.com.photostore.fixture.InMemoryAmazonS3;
+import picto.com.photostore.fixture.PhotoStoreFixture;
+import picto.com.photostore.fixture.SampleImages;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 업로드 요청 매핑(JSON 파트 역직렬화)과 내장 DB + 인메모리 S3 기준 업로드 전체 경로
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PhotoUploadBenchmark {
+    private static final String REQUEST_JSON = """
+            {"userId":1,"lat":37.5665,"lng":126.978,"location":"Seoul","tag":"tag",
+             "registerTime":1700000000000,"frameActive":false,"sharedActive":false}
+            """;
+
+    private ConfigurableApplicationContext context;
+    private PhotoService photoService;
+    private ObjectMapper objectMapper;
+    private MockMultipartFile file;
+
+    @Setup
+    public void setUp() {
+        context = PhotoStoreFixture.start(WebApplicationType.NONE);
+        photoService = context.getBean(PhotoService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        file = new MockMultipartFile("file", "photo.jpg", "image/jpeg", SampleImages.jpeg(1280, 960, 42));
+    }
+
+    // 반복마다 같은 상태에서 시작 (업로드한 행/객체/인덱스/무효화 로그가 쌓이면 반복이 갈수록 느려짐)
+    @Setup(Level.Iteration)
+    public void resetState() {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        PhotoHashIndex photoHashIndex = context.getBean(PhotoHashIndex.class);
+        jdbcTemplate.queryForList("SELECT photo_id FROM photo_schema.Photo", Long.class)
+                .forEach(photoHashIndex::remove);
+        jdbcTemplate.update("DELETE FROM photo_schema.Photo");
+        jdbcTemplate.update("DELETE FROM photo_schema.CacheInvalidation");
+        context.getBean(InMemoryAmazonS3.class).clear();
+        context.getBean(EntityManagerFactory.class).getCache().evictAll();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PhotoUploadRequest mapRequest() throws IOException {
+        return objectMapper.readValue(REQUEST_JSON, PhotoUploadRequest.class);
+    }
+
+    @Benchmark
+    public PhotoResponse uploadPhoto() throws IOException {
+        PhotoUploadRequest request = objectMapper.readValue(REQUEST_JSON, PhotoUploadRequest.class);
+        request.setUserId(ThreadLocalRandom.current().nextLong(1, PhotoStoreFixture.SEEDED_USERS + 1));
+        return photoService.uploadPhoto(file, request);
+    }
+}
@@ -0,0 +1,38 @@
+package picto.com.photostore.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+import picto.com.photostore.fixture.InMemoryAmazonS3;
+import picto.com.photostore.fixture.SampleImages;
+
+import java.util.concurrent.TimeUnit;
+
+// 인메모리 S3 기준 다운로드 바이트 복사 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class S3ServiceBenchmark {
+    private static final String BUCKET = "picto-fixture";
+    private static final String KEY = "picto-photos/benchmark.jpg";
+
+    @Param({"102400", "1048576", "5242880"})
+    private int fileSize;
+
+    private S3Service s3Service;
+
+    @Setup
+    public void setUp() {
+        InMemoryAmazonS3 amazonS3 = new InMemoryAmazonS3();
+        amazonS3.putBytes(BUCKET, KEY, SampleImages.randomBytes(fileSize, 42));
+
+        ConcurrencyLimiter concurrencyLimiter = new ConcurrencyLimiter(64, 10, 16, 5000);
+        s3Service = new S3Service(amazonS3, concurrencyLimiter, new PhotoMetrics(new SimpleMeterRegistry(), concurrencyLimiter));
+        ReflectionTestUtils.setField(s3Service, "bucket", BUCKET);
+    }
+
+    @Benchmark
+    public byte[] downloadFile() {
+        return s3Service.downloadFile(KEY);
+    }
+}
@@ -0,0 +1,182 @@
+package picto.com.photostore.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import picto.com.photostore.fixture.PhotoStoreFixture;
+import picto.com.photostore.fixture.StubSessionScheduler;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// 전체 애플리케이션(H2 + 인메모리 S3 + 스케줄러 대역)을 띄우고 시나리오별 목표 RPS로 부하를 건다.
+// 요청은 예정 시각에 맞춰 보내고(open-loop) 지연은 예정 시각부터 측정하므로 서버가 밀려도 지연이 과소 측정되지 않는다.
+//
+// ./gradlew loadTest -PloadArgs="scenarios=upload,download rps=50 duration=60 warmup=10"
+// ./gradlew loadTest -PloadArgs="virtualThreads=false,true"  (플랫폼/가상 스레드 모드를 차례로 측정)
+public class LoadTestRunner {
+    private static final long MAX_TRACKABLE_LATENCY = TimeUnit.MINUTES.toNanos(2);
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseOptions(args);
+        List<String> scenarioNames = List.of(options.getOrDefault("scenarios", "upload,frame-upload,share-toggle,download").split(","));
+        int rps = Integer.parseInt(options.getOrDefault("rps", "50"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        long schedulerLatencyMillis = Long.parseLong(options.getOrDefault("schedulerLatencyMs", "20"));
+        double sharedRatio = Double.parseDouble(options.getOrDefault("sharedRatio", "0.2"));
+        int seedPhotos = Integer.parseInt(options.getOrDefault("seedPhotos", "200"));
+        Path output = Path.of(options.getOrDefault("output", "build/reports/load-test/result.json"));
+
+        // 실행 모드별로 새 컨텍스트(와 분리된 내장 DB)를 띄워 같은 시나리오를 반복
+        List<ScenarioResult> results = new ArrayList<>();
+        for (String virtualThreads : options.getOrDefault("virtualThreads", "false").split(",")) {
+            boolean enabled = Boolean.parseBoolean(virtualThreads.trim());
+            results.addAll(runSuite(enabled, scenarioNames, rps, duration, warmup, schedulerLatencyMillis, sharedRatio, seedPhotos));
+        }
+
+        writeReport(output, results);
+        System.out.println("report: " + output.toAbsolutePath());
+    }
+
+    private static List<ScenarioResult> runSuite(boolean virtualThreads, List<String> scenarioNames, int rps,
+                                                 Duration duration, Duration warmup, long schedulerLatencyMillis,
+                                                 double sharedRatio, int seedPhotos) {
+        System.out.printf("spring.threads.virtual.enabled=%s%n", virtualThreads);
+        List<ScenarioResult> results = new ArrayList<>();
+        try (StubSessionScheduler scheduler = new StubSessionScheduler(schedulerLatencyMillis);
+             ConfigurableApplicationContext context = PhotoStoreFixture.start(WebApplicationType.SERVLET,
+                     "--server.port=0",
+                     "--spring.threads.virtual.enabled=" + virtualThreads,
+                     "--spring.datasource.url=" + PhotoStoreFixture.h2Url("load-" + (virtualThreads ? "virtual" : "platform")),
+                     "--session.scheduler.enabled=true",
+                     "--session.scheduler.base-url=" + scheduler.baseUrl())) {
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+            PhotoStoreClient client = new PhotoStoreClient(baseUrl, httpClient, context.getBean(ObjectMapper.class), sharedRatio);
+
+            for (String name : scenarioNames) {
+                Scenario scenario = switch (name.trim()) {
+                    case "upload" -> client.upload();
+                    case "frame-upload" -> client.frameUpload();
+                    case "share-toggle" -> client.shareToggle();
+                    case "download" -> client.download();
+                    default -> throw new IllegalArgumentException("알 수 없는 시나리오: " + name);
+                };
+                if (scenario.name().equals("share-toggle") || scenario.name().equals("download")) {
+                    client.seedPhotos(seedPhotos);
+                }
+                scenario.prepare(requestCount(rps, warmup) + requestCount(rps, duration));
+
+                ScenarioResult result = run(httpClient, scenario, virtualThreads, rps, warmup, duration);
+                System.out.println(result.toLine());
+                results.add(result);
+            }
+            System.out.printf("session scheduler calls: %d%n", scheduler.requestCount());
+        }
+        return results;
+    }
+
+    private static ScenarioResult run(HttpClient httpClient, Scenario scenario, boolean virtualThreads, int rps,
+                                      Duration warmup, Duration duration) {
+        drive(httpClient, scenario, rps, warmup, null, null, null);
+
+        Histogram latency = new ConcurrentHistogram(MAX_TRACKABLE_LATENCY, 3);
+        AtomicLong succeeded = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        ScenarioResult.JvmSnapshot before = ScenarioResult.JvmSnapshot.startMeasurement();
+        long elapsed = drive(httpClient, scenario, rps, duration, latency, succeeded, failed);
+        ScenarioResult.JvmSnapshot after = ScenarioResult.JvmSnapshot.capture();
+
+        return new ScenarioResult(scenario.name(), virtualThreads, rps, elapsed, succeeded.get(), failed.get(), latency, before, after);
+    }
+
+    // drive가 보내는 요청 수 (예정 시각이 구간 안인 요청, 구간 시작 포함)
+    private static int requestCount(int rps, Duration duration) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rps;
+        return (int) ((duration.toNanos() + intervalNanos - 1) / intervalNanos);
+    }
+
+    // latency가 null이면 워밍업 (기록하지 않음)
+    private static long drive(HttpClient httpClient, Scenario scenario, int rps, Duration duration,
+                              Histogram latency, AtomicLong succeeded, AtomicLong failed) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rps;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long scheduledAt = start + i * intervalNanos;
+                if (scheduledAt >= end) {
+                    break;
+                }
+                long wait = scheduledAt - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                executor.submit(() -> {
+                    boolean ok;
+                    try {
+                        HttpResponse<byte[]> response = httpClient.send(scenario.nextRequest(), HttpResponse.BodyHandlers.ofByteArray());
+                        ok = response.statusCode() / 100 == 2;
+                        scenario.onResponse(response);
+                    } catch (Exception e) {
+                        ok = false;
+                    }
+                    if (latency != null) {
+                        latency.recordValue(Math.min(System.nanoTime() - scheduledAt, MAX_TRACKABLE_LATENCY));
+                        (ok ? succeeded : failed).incrementAndGet();
+                    }
+                });
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static void writeReport(Path output, List<ScenarioResult> results) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", System.currentTimeMillis());
+        report.put("maxHeapMb", Runtime.getRuntime().maxMemory() / (1024 * 1024));
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("scenarios", results.stream().map(ScenarioResult::toMap).toList());
+
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), report);
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            for (String token : arg.trim().split("\\s+")) {
+                int separator = token.indexOf('=');
+                if (separator > 0) {
+                    options.put(token.substring(0, separator), token.substring(separator + 1));
+                }
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,255 @@
+package picto.com.photostore.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import picto.com.photostore.domain.PhotoUploadRequest;
+import picto.com.photostore.fixture.MultipartBody;
+import picto.com.photostore.fixture.PhotoStoreFixture;
+import picto.com.photostore.fixture.SampleImages;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 사진 API 요청 생성 및 시나리오 정의
+class PhotoStoreClient {
+    private static final int MAX_UPLOAD_SIZE = 10 * 1024 * 1024;
+    // 업로드 파일 크기 분포 (가로, 세로, 비율%): 노이즈 JPEG 기준 약 1MB / 3MB / 6MB
+    private static final int[][] SIZE_DISTRIBUTION = {
+            {800, 600, 50},
+            {1600, 1200, 35},
+            {2048, 1536, 15}
+    };
+    private static final int VARIANTS_PER_SIZE = 4;
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final List<byte[]> payloads = new ArrayList<>();
+    private final List<Long> photoIds = Collections.synchronizedList(new ArrayList<>());
+    private final Queue<Long> framePhotoIds = new ConcurrentLinkedQueue<>();
+    private final double sharedRatio;
+
+    PhotoStoreClient(String baseUrl, HttpClient httpClient, ObjectMapper objectMapper, double sharedRatio) {
+        this.baseUrl = baseUrl + "/photo-store/photos";
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.sharedRatio = sharedRatio;
+
+        // 분포 비율만큼 payload를 반복 등록해 무작위 선택이 분포를 따르도록 함
+        long seed = 1;
+        for (int[] size : SIZE_DISTRIBUTION) {
+            List<byte[]> variants = new ArrayList<>();
+            for (int i = 0; i < VARIANTS_PER_SIZE; i++) {
+                variants.add(noisyJpegUnderLimit(size[0], size[1], seed++));
+            }
+            for (int i = 0; i < size[2]; i++) {
+                payloads.add(variants.get(i % VARIANTS_PER_SIZE));
+            }
+        }
+    }
+
+    private static byte[] noisyJpegUnderLimit(int width, int height, long seed) {
+        byte[] bytes = SampleImages.noisyJpeg(width, height, seed);
+        while (bytes.length > MAX_UPLOAD_SIZE) {
+            width = width * 3 / 4;
+            height = height * 3 / 4;
+            bytes = SampleImages.noisyJpeg(width, height, seed);
+        }
+        return bytes;
+    }
+
+    Scenario upload() {
+        return new Scenario() {
+            @Override
+            public String name() {
+                return "upload";
+            }
+
+            @Override
+            public HttpRequest nextRequest() {
+                return uploadRequest(baseUrl, randomRequest(false, random().nextDouble() < sharedRatio), randomPayload());
+            }
+
+            @Override
+            public void onResponse(HttpResponse<byte[]> response) {
+                addPhotoId(response, photoIds);
+            }
+        };
+    }
+
+    Scenario frameUpload() {
+        return new Scenario() {
+            @Override
+            public String name() {
+                return "frame-upload";
+            }
+
+            @Override
+            public void prepare(int expectedRequests) {
+                List<Long> created = Collections.synchronizedList(new ArrayList<>());
+                runInParallel(expectedRequests, () -> addPhotoId(send(placeholderRequest()), created));
+                // 자리가 모자라면 다른 요청으로 대체하지 않고 시나리오를 실패시켜 측정 대상이 섞이지 않게 함
+                if (created.size() < expectedRequests) {
+                    throw new IllegalStateException(String.format("프레임 사진 자리를 %d개 중 %d개만 만들었습니다.",
+                            expectedRequests, created.size()));
+                }
+                framePhotoIds.addAll(created);
+            }
+
+            @Override
+            public HttpRequest nextRequest() {
+                Long photoId = framePhotoIds.poll();
+                if (photoId == null) {
+                    // 실패로 집계됨
+                    throw new IllegalStateException("준비한 프레임 사진 자리를 모두 사용했습니다.");
+                }
+                return uploadRequest(baseUrl + "/frame/" + photoId,
+                        randomRequest(false, random().nextDouble() < sharedRatio), randomPayload());
+            }
+        };
+    }
+
+    Scenario shareToggle() {
+        return new Scenario() {
+            @Override
+            public String name() {
+                return "share-toggle";
+            }
+
+            @Override
+            public HttpRequest nextRequest() {
+                boolean shared = random().nextDouble() < sharedRatio;
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/" + randomPhotoId() + "/share?shared=" + shared))
+                        .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                        .timeout(Duration.ofSeconds(30))
+                        .build();
+            }
+        };
+    }
+
+    Scenario download() {
+        return new Scenario() {
+            @Override
+            public String name() {
+                return "download";
+            }
+
+            @Override
+            public HttpRequest nextRequest() {
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/download/" + randomPhotoId()))
+                        .GET()
+                        .timeout(Duration.ofSeconds(30))
+                        .build();
+            }
+        };
+    }
+
+    // 공유 변경/다운로드 대상 사진 확보 (측정 전 실행)
+    void seedPhotos(int count) {
+        int missing = count - photoIds.size();
+        if (missing > 0) {
+            runInParallel(missing, () -> addPhotoId(send(uploadRequest(baseUrl, randomRequest(false, false), randomPayload())), photoIds));
+        }
+        if (photoIds.isEmpty()) {
+            throw new IllegalStateException("시드 사진 업로드에 모두 실패했습니다.");
+        }
+    }
+
+    private HttpRequest placeholderRequest() {
+        return uploadRequest(baseUrl, randomRequest(true, false), payloads.get(0));
+    }
+
+    private HttpRequest uploadRequest(String url, PhotoUploadRequest request, byte[] payload) {
+        MultipartBody body = new MultipartBody()
+                .file("file", "photo.jpg", "image/jpeg", payload)
+                .json("request", toJson(request));
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", body.contentType())
+                .POST(body.publisher())
+                .timeout(Duration.ofSeconds(60))
+                .build();
+    }
+
+    private PhotoUploadRequest randomRequest(boolean frameActive, boolean sharedActive) {
+        ThreadLocalRandom random = random();
+        return PhotoUploadRequest.builder()
+                .userId(random.nextLong(1, PhotoStoreFixture.SEEDED_USERS + 1))
+                .lat(33 + random.nextDouble() * 5)
+                .lng(126 + random.nextDouble() * 4)
+                .location("load-test")
+                .tag("load")
+                .registerTime(System.currentTimeMillis())
+                .frameActive(frameActive)
+                .sharedActive(sharedActive)
+                .build();
+    }
+
+    private byte[] randomPayload() {
+        return payloads.get(random().nextInt(payloads.size()));
+    }
+
+    private long randomPhotoId() {
+        synchronized (photoIds) {
+            return photoIds.get(random().nextInt(photoIds.size()));
+        }
+    }
+
+    private void addPhotoId(HttpResponse<byte[]> response, List<Long> target) {
+        if (response == null || response.statusCode() / 100 != 2) {
+            return;
+        }
+        try {
+            JsonNode photoId = objectMapper.readTree(response.body()).get("photoId");
+            if (photoId != null) {
+                target.add(photoId.asLong());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static void runInParallel(int count, Runnable task) {
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < count; i++) {
+                executor.submit(task);
+            }
+        }
+    }
+
+    private String toJson(PhotoUploadRequest request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ThreadLocalRandom random() {
+        return ThreadLocalRandom.current();
+    }
+}
@@ -0,0 +1,18 @@
+package picto.com.photostore.load;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+// 부하 시나리오: 매 요청마다 nextRequest()로 요청을 만들고 응답은 onResponse()로 전달
+public interface Scenario {
+    String name();
+
+    // 측정 전에 필요한 데이터 준비 (예: 프레임 사진 자리 생성)
+    default void prepare(int expectedRequests) {
+    }
+
+    HttpRequest nextRequest();
+
+    default void onResponse(HttpResponse<byte[]> response) {
+    }
+}
@@ -0,0 +1,90 @@
+package picto.com.photostore.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 시나리오별 지연 분포, 처리량, 힙/GC 통계
+record ScenarioResult(String name, boolean virtualThreads, int targetRps, long durationNanos, long succeeded, long failed,
+                      Histogram latency, JvmSnapshot before, JvmSnapshot after) {
+
+    // 성공한 요청만 처리량으로 셈 (빠르게 실패하는 요청이 처리량을 부풀리지 않도록)
+    double throughput() {
+        return succeeded / (durationNanos / 1e9);
+    }
+
+    double errorRate() {
+        long total = succeeded + failed;
+        return total == 0 ? 0 : failed / (double) total;
+    }
+
+    Map<String, Object> toMap() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("scenario", name);
+        result.put("virtualThreads", virtualThreads);
+        result.put("targetRps", targetRps);
+        result.put("throughputRps", round(throughput()));
+        result.put("succeeded", succeeded);
+        result.put("failed", failed);
+        result.put("errorRatePercent", round(errorRate() * 100));
+        result.put("p50Ms", millis(latency.getValueAtPercentile(50)));
+        result.put("p99Ms", millis(latency.getValueAtPercentile(99)));
+        result.put("p999Ms", millis(latency.getValueAtPercentile(99.9)));
+        result.put("maxMs", millis(latency.getMaxValue()));
+        result.put("heapUsedAfterMb", after.heapUsedBytes() / (1024 * 1024));
+        result.put("heapPeakMb", after.heapPeakBytes() / (1024 * 1024));
+        result.put("gcCount", after.gcCount() - before.gcCount());
+        result.put("gcTimeMs", after.gcTimeMillis() - before.gcTimeMillis());
+        return result;
+    }
+
+    String toLine() {
+        return String.format("%-14s vt=%-5s target=%4d rps  tput=%8.1f rps  ok=%7d  fail=%5d (%5.1f%%)  p50=%8.1fms  p99=%8.1fms  p999=%8.1fms  "
+                        + "heap=%5dMB (peak %5dMB)  gc=%4d (%6dms)",
+                name, virtualThreads, targetRps, throughput(), succeeded, failed, errorRate() * 100,
+                millis(latency.getValueAtPercentile(50)),
+                millis(latency.getValueAtPercentile(99)),
+                millis(latency.getValueAtPercentile(99.9)),
+                after.heapUsedBytes() / (1024 * 1024), after.heapPeakBytes() / (1024 * 1024),
+                after.gcCount() - before.gcCount(), after.gcTimeMillis() - before.gcTimeMillis());
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+
+    record JvmSnapshot(long heapUsedBytes, long heapPeakBytes, long gcCount, long gcTimeMillis) {
+
+        // 측정 구간의 최대 힙 사용량을 보기 위해 시작 시 피크 값을 초기화
+        static JvmSnapshot startMeasurement() {
+            ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+            return capture();
+        }
+
+        static JvmSnapshot capture() {
+            long heapPeak = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    heapPeak += pool.getPeakUsage().getUsed();
+                }
+            }
+            long gcCount = 0;
+            long gcTime = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                gcCount += Math.max(0, gc.getCollectionCount());
+                gcTime += Math.max(0, gc.getCollectionTime());
+            }
+            return new JvmSnapshot(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(), heapPeak, gcCount, gcTime);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package picto.com.photostore.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// datasource.routing.enabled=true 일 때 읽기 전용 트랜잭션을 레플리카로 라우팅
+// primary와 레플리카 풀 모두 spring.datasource.hikari.* 설정을 따르고 컨텍스트 종료 시 닫힌다.
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@RequiredArgsConstructor
+public class DataSourceConfig implements SchedulingConfigurer {
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final DataSourceRoutingProperties routingProperties;
+    private final Environment environment;
+
+    // 기본 설정과 같은 방식으로 spring.datasource.hikari.* 바인딩 (빈이므로 종료 시 close 호출)
+    @Bean
+    @ConfigurationProperties(prefix = HIKARI_PREFIX)
+    public HikariDataSource primaryDataSource() {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    // 레플리카 풀은 라우팅 DataSource가 소유하고 close 시 함께 닫음
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource) {
+        Binder binder = Binder.get(environment);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<DataSourceRoutingProperties.Replica> replicaProperties = routingProperties.getReplicas();
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            DataSourceRoutingProperties.Replica replica = replicaProperties.get(i);
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .build();
+            binder.bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername());
+            dataSource.setPassword(replica.getPassword());
+            dataSource.setPoolName("replica-" + i);
+            if (replica.getMaximumPoolSize() != null) {
+                dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            }
+            dataSource.setReadOnly(true);
+            replicas.put("replica-" + i, dataSource);
+        }
+
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, routingProperties);
+    }
+
+    // 트랜잭션의 readOnly 여부가 정해진 뒤 실제 커넥션을 얻도록 지연
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    // 레플리카에서 읽은 행이 2차 캐시에 들어가지 않도록 JPA 트랜잭션 시작 방식 교체 (ReplicaCacheModeJpaDialect)
+    @Bean
+    public static BeanPostProcessor replicaCacheModeJpaDialect() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean entityManagerFactory) {
+                    entityManagerFactory.setJpaDialect(new ReplicaCacheModeJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+
+    // health-check-interval은 Duration(5s 등)으로 바인딩되므로 @Scheduled 문자열 대신 직접 등록
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        ReadWriteRoutingDataSource routingDataSource = routingDataSource(primaryDataSource());
+        registrar.addFixedDelayTask(routingDataSource::checkReplicas, routingProperties.getHealthCheckInterval());
+    }
+}
@@ -0,0 +1,52 @@
+package picto.com.photostore.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+    // 읽기 전용 트랜잭션을 레플리카로 라우팅할지 여부
+    private boolean enabled = false;
+
+    // 레플리카 선택 방식
+    private Selection selection = Selection.ROUND_ROBIN;
+
+    // 이 값보다 복제 지연이 크면 해당 레플리카는 제외 (모두 제외되면 primary 사용)
+    private Duration maxReplicaLag = Duration.ofSeconds(5);
+
+    // 복제 지연(초)을 반환하는 쿼리 (결과가 없거나 NULL이면 지연 0으로 간주)
+    // 적용 중인 트랜잭션이 있는 워커만 지연으로 계산하고 쉬는 워커는 0 (primary에 쓰기가 없을 때 지연으로 오인하지 않음)
+    // 적용 중이면 마지막 트랜잭션의 적용 지연(END_APPLY - ORIGINAL_COMMIT)과 적용 중인 트랜잭션의 대기 시간 중 큰 값
+    // 하트비트 테이블(pt-heartbeat 등)을 쓰는 경우 해당 테이블 조회 쿼리로 교체
+    private String lagQuery = "SELECT MAX(CASE WHEN APPLYING_TRANSACTION = '' THEN 0 ELSE GREATEST("
+            + "COALESCE(TIMESTAMPDIFF(SECOND, LAST_APPLIED_TRANSACTION_ORIGINAL_COMMIT_TIMESTAMP, LAST_APPLIED_TRANSACTION_END_APPLY_TIMESTAMP), 0), "
+            + "COALESCE(TIMESTAMPDIFF(SECOND, APPLYING_TRANSACTION_ORIGINAL_COMMIT_TIMESTAMP, NOW(6)), 0)) END) "
+            + "FROM performance_schema.replication_applier_status_by_worker";
+
+    // 레플리카 상태 확인 주기
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    public enum Selection {
+        ROUND_ROBIN,
+        LEAST_LATENCY
+    }
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        // 지정하지 않으면 spring.datasource.hikari.maximum-pool-size를 따름
+        private Integer maximumPoolSize;
+    }
+}
@@ -0,0 +1,87 @@
+package picto.com.photostore.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.r2dbc.config.AbstractR2dbcConfiguration;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import picto.com.photostore.repository.reactive.ReactivePhotoRepository;
+
+import javax.sql.DataSource;
+
+// reactive 프로필 전용 R2DBC 설정 (R2DBC 저장소는 repository.reactive 패키지만 스캔)
+// JPA 트랜잭션 매니저와 충돌하지 않도록 R2DBC 트랜잭션 매니저는 빈으로 등록하지 않고 TransactionalOperator로만 노출
+// DataSourceAutoConfiguration은 ConnectionFactory 빈이 있으면 꺼지므로 JPA(캐시 무효화, 정합성 검사 등)가 쓸 DataSource도 여기서 등록
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableR2dbcRepositories(basePackageClasses = ReactivePhotoRepository.class)
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReactiveDataConfig extends AbstractR2dbcConfiguration {
+
+    @Value("${photo.reactive.r2dbc.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    @Value("${photo.reactive.r2dbc.max-pool-size:20}")
+    private int maxPoolSize;
+
+    @Override
+    @Bean
+    public ConnectionFactory connectionFactory() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(url)
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build());
+
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .maxSize(maxPoolSize)
+                .build());
+    }
+
+    // 라우팅을 켜면 DataSourceConfig가 DataSource를 등록
+    @Bean
+    @ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public HikariDataSource dataSource(DataSourceProperties dataSourceProperties, Environment environment) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        // 기본 설정과 같이 spring.datasource.hikari.* 적용
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        return dataSource;
+    }
+
+    // 자동 설정은 ConnectionFactory가 있으면 spring.sql.init 스크립트를 R2DBC로 실행하므로 JPA와 같은 DataSource로 실행하도록 지정
+    @Bean
+    public SqlDataSourceScriptDatabaseInitializer dataSourceScriptDatabaseInitializer(DataSource dataSource,
+                                                                                       SqlInitializationProperties properties) {
+        return new SqlDataSourceScriptDatabaseInitializer(dataSource, properties);
+    }
+
+    @Bean
+    public TransactionalOperator reactiveTransactionalOperator(ConnectionFactory connectionFactory) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+}
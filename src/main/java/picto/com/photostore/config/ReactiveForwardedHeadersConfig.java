@@ -0,0 +1,61 @@
+package picto.com.photostore.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.server.ConnectionInfo;
+
+import java.net.InetSocketAddress;
+import java.util.regex.Pattern;
+
+// reactive 프로필의 X-Forwarded-For/Proto 처리
+// Reactor Netty의 native 처리는 모든 주소가 보낸 헤더를 믿으므로, servlet(Tomcat RemoteIpValve)과 같은 신뢰 프록시 목록으로 직접 처리한다.
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveForwardedHeadersConfig {
+
+    @Bean
+    public NettyServerCustomizer forwardedHeadersCustomizer(
+            @Value("${server.tomcat.remoteip.internal-proxies}") String internalProxies) {
+        Pattern trustedProxies = Pattern.compile(internalProxies);
+        return httpServer -> httpServer.forwarded((connectionInfo, request) -> {
+            InetSocketAddress peer = connectionInfo.getRemoteAddress();
+            if (peer == null || peer.getAddress() == null
+                    || !trustedProxies.matcher(peer.getAddress().getHostAddress()).matches()) {
+                return connectionInfo;
+            }
+            ConnectionInfo forwarded = connectionInfo;
+            String forwardedProto = request.headers().get("X-Forwarded-Proto");
+            if (forwardedProto != null && !forwardedProto.isBlank()) {
+                forwarded = forwarded.withScheme(forwardedProto.trim());
+            }
+            String client = clientAddress(peer.getAddress().getHostAddress(), request.headers().get("X-Forwarded-For"),
+                    trustedProxies);
+            // 주소 문자열 그대로 사용 (DNS 조회 없음)
+            return forwarded.withRemoteAddress(InetSocketAddress.createUnresolved(client, peer.getPort()));
+        });
+    }
+
+    // RemoteIpValve와 같은 규칙: 신뢰할 프록시가 보낸 X-Forwarded-For를 오른쪽부터 보며 신뢰하지 않는 첫 주소를 클라이언트로 사용
+    // (왼쪽 값은 클라이언트가 마음대로 넣을 수 있으므로 프록시가 덧붙인 오른쪽부터 확인)
+    static String clientAddress(String peerAddress, String forwardedFor, Pattern trustedProxies) {
+        if (forwardedFor == null || !trustedProxies.matcher(peerAddress).matches()) {
+            return peerAddress;
+        }
+        String client = peerAddress;
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                continue;
+            }
+            client = hop;
+            if (!trustedProxies.matcher(hop).matches()) {
+                break;
+            }
+        }
+        return client;
+    }
+}
@@ -0,0 +1,134 @@
+package picto.com.photostore.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 읽기 전용 트랜잭션은 레플리카로, 나머지는 primary로 보내는 DataSource
+// (트랜잭션 속성이 정해진 뒤 커넥션을 얻도록 LazyConnectionDataSourceProxy로 감싸서 사용)
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    public static final String PRIMARY = "primary";
+
+    private final List<ReplicaTarget> replicas;
+    private final DataSourceRoutingProperties.Selection selection;
+    private final long maxLagSeconds;
+    private final String lagQuery;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicaDataSources,
+                                      DataSourceRoutingProperties properties) {
+        this.replicas = replicaDataSources.entrySet().stream()
+                .map(entry -> new ReplicaTarget(entry.getKey(), entry.getValue()))
+                .toList();
+        this.selection = properties.getSelection();
+        this.maxLagSeconds = properties.getMaxReplicaLag().toSeconds();
+        this.lagQuery = properties.getLagQuery();
+
+        Map<Object, Object> targets = new HashMap<>(replicaDataSources);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        ReplicaTarget replica = selectReplica();
+        return replica == null ? PRIMARY : replica.name;
+    }
+
+    private ReplicaTarget selectReplica() {
+        if (selection == DataSourceRoutingProperties.Selection.LEAST_LATENCY) {
+            ReplicaTarget best = null;
+            for (ReplicaTarget replica : replicas) {
+                if (replica.available && (best == null || replica.latencyNanos < best.latencyNanos)) {
+                    best = replica;
+                }
+            }
+            return best;
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            ReplicaTarget replica = replicas.get((start + i) % size);
+            if (replica.available) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    // 레플리카별 응답 시간과 복제 지연 확인
+    public void checkReplicas() {
+        for (ReplicaTarget replica : replicas) {
+            long start = System.nanoTime();
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(2);
+                long lagSeconds = 0;
+                try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                    if (resultSet.next()) {
+                        lagSeconds = resultSet.getLong(1);
+                    }
+                }
+                long elapsed = System.nanoTime() - start;
+                // 지수 이동 평균으로 응답 시간 갱신
+                replica.latencyNanos = replica.latencyNanos == 0 ? elapsed : (replica.latencyNanos * 7 + elapsed) / 8;
+                replica.lagSeconds = lagSeconds;
+                updateAvailability(replica, lagSeconds <= maxLagSeconds);
+            } catch (SQLException e) {
+                log.warn("레플리카 상태 확인 실패 [{}]: {}", replica.name, e.getMessage());
+                updateAvailability(replica, false);
+            }
+        }
+    }
+
+    // 레플리카 풀 종료 (primary는 호출한 쪽이 닫음)
+    @Override
+    public void close() {
+        for (ReplicaTarget replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("레플리카 [{}] 종료 실패: {}", replica.name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void updateAvailability(ReplicaTarget replica, boolean available) {
+        if (replica.available != available) {
+            log.warn("레플리카 [{}] 상태 변경: {} (지연 {}초)", replica.name, available ? "사용" : "제외", replica.lagSeconds);
+        }
+        replica.available = available;
+    }
+
+    private static final class ReplicaTarget {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available = true;
+        private volatile long latencyNanos;
+        private volatile long lagSeconds;
+
+        private ReplicaTarget(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
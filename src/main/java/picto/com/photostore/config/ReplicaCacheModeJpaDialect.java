@@ -0,0 +1,28 @@
+package picto.com.photostore.config;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+
+// 읽기 전용 트랜잭션(레플리카 라우팅)은 2차 캐시를 읽기만 하고 채우지 않음
+// 지연된 레플리카가 무효화 직후 예전 행을 돌려주면 그 행이 eager-expiration(30분) 동안 캐시에 남기 때문 (캐시는 primary에서 읽은 행으로만 채움)
+public class ReplicaCacheModeJpaDialect extends HibernateJpaDialect {
+    private static final String CACHE_STORE_MODE = "jakarta.persistence.cache.storeMode";
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        // 세션의 CacheMode는 find마다 이 속성으로 다시 정해지므로 JPA 속성으로 지정
+        // (open-in-view를 끄므로 세션은 트랜잭션마다 새로 열림, 되돌릴 필요 없음)
+        if (definition.isReadOnly()) {
+            entityManager.setProperty(CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+        }
+        return transactionData;
+    }
+}
@@ -1,13 +1,29 @@
 package picto.com.photostore.config;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 @Configuration
 public class RestTemplateConfig {
+    // 타임아웃이 없으면 스케줄러 장애 시 동시 호출 제한 permit이 반환되지 않음
+    @Value("${session.scheduler.connect-timeout-ms:2000}")
+    private long connectTimeoutMillis;
+
+    @Value("${session.scheduler.read-timeout-ms:5000}")
+    private long readTimeoutMillis;
+
+    // RestTemplateBuilder는 servlet 모드에서만 자동 등록되므로 reactive 모드에서는 직접 생성
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(ObjectProvider<RestTemplateBuilder> builder) {
+        return builder.getIfAvailable(RestTemplateBuilder::new)
+                .setConnectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .setReadTimeout(Duration.ofMillis(readTimeoutMillis))
+                .build();
     }
 }
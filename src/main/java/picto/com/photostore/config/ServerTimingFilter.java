@@ -0,0 +1,69 @@
+package picto.com.photostore.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import picto.com.photostore.service.RequestTiming;
+import picto.com.photostore.service.SlowRequestLog;
+
+import java.io.IOException;
+
+// 요청별 DB/S3/이미지 처리/스케줄러 소요 시간을 Server-Timing 헤더로 반환하고 느린 요청을 기록
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class ServerTimingFilter extends OncePerRequestFilter {
+    private static final String SERVER_TIMING = "Server-Timing";
+
+    private final SlowRequestLog slowRequestLog;
+
+    @Value("${photo.tracing.server-timing-enabled:true}")
+    private boolean serverTimingEnabled;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.start();
+        // 본문 전송이 시작되면 헤더를 추가할 수 없으므로 커밋 직전에 기록
+        HttpServletResponse timedResponse = serverTimingEnabled
+                ? new ServerTimingResponseWrapper(response, timing)
+                : response;
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, timedResponse);
+            failed = false;
+        } finally {
+            if (serverTimingEnabled && !response.isCommitted()) {
+                response.setHeader(SERVER_TIMING, timing.toServerTimingHeader());
+            }
+            // 예외가 전파되면 컨테이너가 오류 응답을 만들기 전이라 상태가 아직 200이므로 500으로 기록
+            int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            slowRequestLog.offer(request.getMethod(), request.getRequestURI(), status, timing);
+            RequestTiming.clear();
+        }
+    }
+
+    private static class ServerTimingResponseWrapper extends OnCommittedResponseWrapper {
+        private final RequestTiming timing;
+
+        ServerTimingResponseWrapper(HttpServletResponse response, RequestTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            setHeader(SERVER_TIMING, timing.toServerTimingHeader());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package picto.com.photostore.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import picto.com.photostore.service.EntityCacheService;
+
+import java.util.Map;
+
+// 2차 캐시 적중률 조회 (관리 포트 GET /actuator/entitycache)
+@Component
+@Endpoint(id = "entitycache")
+@RequiredArgsConstructor
+public class CacheStatisticsEndpoint {
+    private final EntityCacheService entityCacheService;
+
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        return entityCacheService.getStatistics();
+    }
+}
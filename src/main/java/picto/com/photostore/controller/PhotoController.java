@@ -1,16 +1,23 @@
 package picto.com.photostore.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import picto.com.photostore.domain.*;
+import picto.com.photostore.exception.ResourceBusyException;
+import picto.com.photostore.service.AdmissionControl;
+import picto.com.photostore.service.ConcurrencyLimiter;
 import picto.com.photostore.service.PhotoService;
 import picto.com.photostore.service.S3Service;
+import java.security.Principal;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -18,17 +25,26 @@ import java.util.Map;
 @CrossOrigin(origins = "*")
 @RequiredArgsConstructor
 @Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class PhotoController {
     private final PhotoService photoService;
     private final S3Service s3Service;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final AdmissionControl admissionControl;
 
     // 사진 업로드
     @PostMapping
     public ResponseEntity<PhotoResponse> uploadPhoto(
             @RequestPart(value = "file") MultipartFile file,
-            @RequestPart(value = "request") PhotoUploadRequest request) {
-        PhotoResponse response = photoService.uploadPhoto(file, request);
-        return ResponseEntity.ok(response);
+            @RequestPart(value = "request") PhotoUploadRequest request,
+            Principal principal,
+            HttpServletRequest httpRequest) {
+        try (AdmissionControl.Permit permit = admissionControl.acquireUpload(request.getUserId(),
+                AdmissionControl.clientKey(principal, httpRequest.getRemoteAddr()))) {
+            PhotoResponse response = concurrencyLimiter.call(ConcurrencyLimiter.Resource.DB,
+                    () -> photoService.uploadPhoto(file, request));
+            return ResponseEntity.ok(response);
+        }
     }
 
     // 액자로 둔 사진 업로드
@@ -36,9 +52,15 @@ public class PhotoController {
     public ResponseEntity<PhotoResponse> uploadFramePhoto(
             @PathVariable Long photoId,
             @RequestPart(value = "file") MultipartFile file,
-            @RequestPart(value = "request") PhotoUploadRequest request) {
-        PhotoResponse response = photoService.uploadFramePhoto(photoId, file, request);
-        return ResponseEntity.ok(response);
+            @RequestPart(value = "request") PhotoUploadRequest request,
+            Principal principal,
+            HttpServletRequest httpRequest) {
+        try (AdmissionControl.Permit permit = admissionControl.acquireUpload(request.getUserId(),
+                AdmissionControl.clientKey(principal, httpRequest.getRemoteAddr()))) {
+            PhotoResponse response = concurrencyLimiter.call(ConcurrencyLimiter.Resource.DB,
+                    () -> photoService.uploadFramePhoto(photoId, file, request));
+            return ResponseEntity.ok(response);
+        }
     }
 
     // 사진 삭제
@@ -46,15 +68,15 @@ public class PhotoController {
     public ResponseEntity<Void> deletePhoto(
             @PathVariable Long photoId,
             @RequestParam Long userId) {
-        photoService.deletePhoto(photoId, userId);
+        concurrencyLimiter.run(ConcurrencyLimiter.Resource.DB, () -> photoService.deletePhoto(photoId, userId));
         return ResponseEntity.ok().build();
     }
 
     // 사진 조회
     @GetMapping("/download/{photoId}")
     public ResponseEntity<byte[]> downloadPhoto(@PathVariable Long photoId) {
-        try {
-            Photo photo = photoService.getPhotoById(photoId);
+        try (AdmissionControl.Permit permit = admissionControl.acquireDownload()) {
+            Photo photo = concurrencyLimiter.call(ConcurrencyLimiter.Resource.DB, () -> photoService.getPhotoById(photoId));
             byte[] imageBytes = s3Service.downloadFile(photo.getS3FileName());
             String fileName = photo.getS3FileName();
             String extension = fileName.substring(fileName.lastIndexOf(".") + 1).toLowerCase();
@@ -70,6 +92,8 @@ public class PhotoController {
                     .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
                     .contentLength(imageBytes.length)
                     .body(imageBytes);
+        } catch (ResourceBusyException e) {
+            throw e;
         } catch (Exception e) {
             log.error("이미지 다운로드 중 오류 발생: {}", e.getMessage());
             throw new RuntimeException("이미지 다운로드 실패", e);
@@ -81,7 +105,17 @@ public class PhotoController {
     public ResponseEntity<PhotoResponse> updateShareStatus(
             @PathVariable Long photoId,
             @RequestParam boolean shared) {
-        PhotoResponse response = photoService.updateShareStatus(photoId, shared);
+        PhotoResponse response = concurrencyLimiter.call(ConcurrencyLimiter.Resource.DB,
+                () -> photoService.updateShareStatus(photoId, shared));
+        return ResponseEntity.ok(response);
+    }
+
+    // 유사 사진 조회
+    @GetMapping("/{photoId}/similar")
+    public ResponseEntity<List<PhotoResponse>> getSimilarPhotos(
+            @PathVariable Long photoId,
+            @RequestParam(required = false) Integer distance) {
+        List<PhotoResponse> response = photoService.findSimilarPhotos(photoId, distance);
         return ResponseEntity.ok(response);
     }
 }
@@ -0,0 +1,112 @@
+package picto.com.photostore.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import picto.com.photostore.domain.PhotoResponse;
+import picto.com.photostore.domain.PhotoUploadRequest;
+import picto.com.photostore.service.AdmissionControl;
+import picto.com.photostore.service.ReactivePhotoService;
+import picto.com.photostore.service.ReactiveS3Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+// reactive 프로필에서 PhotoController 대신 사용하는 논블로킹 컨트롤러 (같은 경로)
+@RestController
+@RequestMapping("photo-store/photos")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePhotoController {
+    private final ReactivePhotoService photoService;
+    private final ReactiveS3Service s3Service;
+    private final AdmissionControl admissionControl;
+
+    // 사진 업로드
+    @PostMapping
+    public Mono<ResponseEntity<PhotoResponse>> uploadPhoto(
+            @RequestPart(value = "file") FilePart file,
+            @RequestPart(value = "request") PhotoUploadRequest request,
+            ServerWebExchange exchange) {
+        return clientKey(exchange).flatMap(clientKey -> Mono.using(
+                () -> admissionControl.acquireUpload(request.getUserId(), clientKey),
+                permit -> photoService.uploadPhoto(file, request).map(ResponseEntity::ok),
+                AdmissionControl.Permit::close));
+    }
+
+    // 액자로 둔 사진 업로드
+    @PostMapping("/frame/{photoId}")
+    public Mono<ResponseEntity<PhotoResponse>> uploadFramePhoto(
+            @PathVariable Long photoId,
+            @RequestPart(value = "file") FilePart file,
+            @RequestPart(value = "request") PhotoUploadRequest request,
+            ServerWebExchange exchange) {
+        return clientKey(exchange).flatMap(clientKey -> Mono.using(
+                () -> admissionControl.acquireUpload(request.getUserId(), clientKey),
+                permit -> photoService.uploadFramePhoto(photoId, file, request).map(ResponseEntity::ok),
+                AdmissionControl.Permit::close));
+    }
+
+    // 사진 삭제
+    @DeleteMapping("/{photoId}")
+    public Mono<ResponseEntity<Void>> deletePhoto(
+            @PathVariable Long photoId,
+            @RequestParam Long userId) {
+        return photoService.deletePhoto(photoId, userId).then(Mono.fromSupplier(() -> ResponseEntity.ok().<Void>build()));
+    }
+
+    // 사진 조회 (S3 본문을 버퍼링 없이 그대로 전달)
+    // 동시 다운로드 한도는 S3 응답을 받을 때까지 적용 (본문 전송은 Netty 배압으로 제한)
+    @GetMapping("/download/{photoId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> downloadPhoto(@PathVariable Long photoId) {
+        return Mono.using(admissionControl::acquireDownload,
+                        permit -> photoService.getPhotoById(photoId)
+                                .flatMap(photo -> s3Service.downloadFile(photo.getS3FileName())
+                                        .map(download -> toDownloadResponse(photo.getS3FileName(), download))),
+                        AdmissionControl.Permit::close)
+                .doOnError(e -> log.error("이미지 다운로드 중 오류 발생: {}", e.getMessage()));
+    }
+
+    private static ResponseEntity<Flux<DataBuffer>> toDownloadResponse(String fileName, ReactiveS3Service.S3Download download) {
+        String extension = fileName.substring(fileName.lastIndexOf(".") + 1).toLowerCase();
+
+        MediaType mediaType = switch (extension) {
+            case "png" -> MediaType.IMAGE_PNG;
+            case "gif" -> MediaType.IMAGE_GIF;
+            default -> MediaType.IMAGE_JPEG;
+        };
+
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentLength(download.contentLength())
+                .body(download.content());
+    }
+
+    // 업로드 한도 키 (인증 주체가 없으면 클라이언트 IP)
+    private static Mono<String> clientKey(ServerWebExchange exchange) {
+        InetSocketAddress remote = exchange.getRequest().getRemoteAddress();
+        String remoteAddress = remote == null ? null : remote.getHostString();
+        return exchange.getPrincipal()
+                .map(principal -> AdmissionControl.clientKey(principal, remoteAddress))
+                .defaultIfEmpty(AdmissionControl.clientKey(null, remoteAddress));
+    }
+
+    // 사진 공유 상태 업데이트
+    @PatchMapping("/{photoId}/share")
+    public Mono<ResponseEntity<PhotoResponse>> updateShareStatus(
+            @PathVariable Long photoId,
+            @RequestParam boolean shared) {
+        return photoService.updateShareStatus(photoId, shared).map(ResponseEntity::ok);
+    }
+}
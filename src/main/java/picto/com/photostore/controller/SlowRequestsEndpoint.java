@@ -0,0 +1,26 @@
+package picto.com.photostore.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import picto.com.photostore.service.SlowRequestLog;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 느린 요청 샘플 조회 (관리 포트 GET /actuator/slowrequests, 최신순)
+@Component
+@Endpoint(id = "slowrequests")
+@RequiredArgsConstructor
+public class SlowRequestsEndpoint {
+    private final SlowRequestLog slowRequestLog;
+
+    @ReadOperation
+    public Map<String, Object> slowRequests() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("thresholdMs", slowRequestLog.thresholdMillis());
+        result.put("requests", slowRequestLog.snapshot());
+        return result;
+    }
+}
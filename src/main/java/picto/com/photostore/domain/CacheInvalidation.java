@@ -0,0 +1,36 @@
+package picto.com.photostore.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 노드 간 캐시 무효화 로그 (변경과 같은 트랜잭션에서 기록, append-only)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "CacheInvalidation", schema = "photo_schema")
+public class CacheInvalidation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "invalidation_id")
+    private Long invalidationId;
+
+    @Column(name = "cache_name", nullable = false, length = 20)
+    private String cacheName;
+
+    @Column(name = "cache_key", nullable = false)
+    private Long cacheKey;
+
+    @Column(name = "node_id", nullable = false, length = 36)
+    private String nodeId;
+
+    @Column(name = "created_datetime", nullable = false)
+    private Long createdDatetime;
+
+    @Builder
+    public CacheInvalidation(String cacheName, Long cacheKey, String nodeId) {
+        this.cacheName = cacheName;
+        this.cacheKey = cacheKey;
+        this.nodeId = nodeId;
+        this.createdDatetime = System.currentTimeMillis();
+    }
+}
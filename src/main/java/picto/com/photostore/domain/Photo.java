@@ -2,8 +2,12 @@ package picto.com.photostore.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "photo")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "Photo", schema = "photo_schema")
@@ -53,10 +57,15 @@ public class Photo {
     @Column(name = "shared_active", nullable = false, columnDefinition = "tinyint")
     private boolean sharedActive;
 
+    // 유사 사진 탐지용 64비트 dHash (해시 계산 불가 이미지는 null)
+    @Column(name = "perceptual_hash")
+    private Long perceptualHash;
+
     @Builder
     public Photo(Long photoId, User user, String photoPath, String s3FileName,
                  String tag, double lat, double lng, String location,
-                 int likes, int views, boolean frameActive, boolean sharedActive) {
+                 int likes, int views, boolean frameActive, boolean sharedActive,
+                 Long perceptualHash) {
         this.photoId = photoId;
         this.user = user;
         this.photoPath = photoPath;
@@ -71,6 +80,7 @@ public class Photo {
         this.registerDatetime = System.currentTimeMillis();
         this.frameActive = frameActive;
         this.sharedActive = sharedActive;
+        this.perceptualHash = perceptualHash;
     }
 
     public void updatePhoto(double lat, double lng, String location, String tag,
@@ -85,4 +95,8 @@ public class Photo {
         this.frameActive = frameActive;
         this.sharedActive = sharedActive;
     }
+
+    public void updatePerceptualHash(Long perceptualHash) {
+        this.perceptualHash = perceptualHash;
+    }
 }
@@ -4,6 +4,8 @@ import lombok.Builder;
 import lombok.Getter;
 import org.springframework.http.MediaType;
 
+import java.util.List;
+
 @Getter
 @Builder
 public class PhotoResponse {
@@ -17,8 +19,14 @@ public class PhotoResponse {
     private int likes;
     private int views;
     private Long uploadTime;
+    // 업로드 시 유사 사진(중복 의심) ID 목록
+    private List<Long> similarPhotoIds;
 
     public static PhotoResponse from(Photo photo) {
+        return from(photo, null);
+    }
+
+    public static PhotoResponse from(Photo photo, List<Long> similarPhotoIds) {
         String fileName = photo.getS3FileName();
         String contentType = determineContentType(fileName);
 
@@ -33,10 +41,31 @@ public class PhotoResponse {
                 .likes(photo.getLikes())
                 .views(photo.getViews())
                 .uploadTime(photo.getUploadDatetime())
+                .similarPhotoIds(similarPhotoIds)
+                .build();
+    }
+
+    public static PhotoResponse from(PhotoRow photo) {
+        return from(photo, null);
+    }
+
+    public static PhotoResponse from(PhotoRow photo, List<Long> similarPhotoIds) {
+        return PhotoResponse.builder()
+                .photoId(photo.getPhotoId())
+                .photoPath(photo.getPhotoPath())
+                .contentType(determineContentType(photo.getS3FileName()))
+                .lat(photo.getLat())
+                .lng(photo.getLng())
+                .location(photo.getLocation())
+                .tag(photo.getTag())
+                .likes(photo.getLikes())
+                .views(photo.getViews())
+                .uploadTime(photo.getUploadDatetime())
+                .similarPhotoIds(similarPhotoIds)
                 .build();
     }
 
-    private static String determineContentType(String fileName) {
+    static String determineContentType(String fileName) {
         String extension = fileName.substring(fileName.lastIndexOf(".") + 1).toLowerCase();
         return switch (extension) {
             case "png" -> MediaType.IMAGE_PNG_VALUE;
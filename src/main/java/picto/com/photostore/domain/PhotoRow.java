@@ -0,0 +1,96 @@
+package picto.com.photostore.domain;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+// reactive 프로필에서 R2DBC로 매핑하는 Photo 테이블 (JPA Photo 엔티티와 같은 테이블)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "Photo", schema = "photo_schema")
+public class PhotoRow {
+    @Id
+    @Column("photo_id")
+    private Long photoId;
+
+    @Column("user_id")
+    private Long userId;
+
+    @Column("photo_path")
+    private String photoPath;
+
+    @Column("s3_file_name")
+    private String s3FileName;
+
+    @Column("tag")
+    private String tag;
+
+    @Column("lat")
+    private double lat;
+
+    @Column("lng")
+    private double lng;
+
+    @Column("location")
+    private String location;
+
+    @Column("likes")
+    private int likes;
+
+    @Column("views")
+    private int views;
+
+    @Column("upload_datetime")
+    private Long uploadDatetime;
+
+    @Column("register_datetime")
+    private Long registerDatetime;
+
+    @Column("frame_active")
+    private boolean frameActive;
+
+    @Column("shared_active")
+    private boolean sharedActive;
+
+    @Column("perceptual_hash")
+    private Long perceptualHash;
+
+    @Builder
+    public PhotoRow(Long userId, String photoPath, String s3FileName,
+                    String tag, double lat, double lng, String location,
+                    int likes, int views, boolean frameActive, boolean sharedActive,
+                    Long perceptualHash) {
+        this.userId = userId;
+        this.photoPath = photoPath;
+        this.s3FileName = s3FileName;
+        this.tag = tag;
+        this.lat = lat;
+        this.lng = lng;
+        this.location = location;
+        this.likes = likes;
+        this.views = views;
+        this.uploadDatetime = System.currentTimeMillis();
+        this.registerDatetime = System.currentTimeMillis();
+        this.frameActive = frameActive;
+        this.sharedActive = sharedActive;
+        this.perceptualHash = perceptualHash;
+    }
+
+    public void updatePhoto(double lat, double lng, String location, String tag,
+                            String photoPath, String s3FileName,
+                            boolean frameActive, boolean sharedActive) {
+        this.lat = lat;
+        this.lng = lng;
+        this.location = location;
+        this.tag = tag;
+        this.photoPath = photoPath;
+        this.s3FileName = s3FileName;
+        this.frameActive = frameActive;
+        this.sharedActive = sharedActive;
+    }
+
+    public void updatePerceptualHash(Long perceptualHash) {
+        this.perceptualHash = perceptualHash;
+    }
+}
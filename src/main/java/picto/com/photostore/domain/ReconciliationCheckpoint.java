@@ -0,0 +1,34 @@
+package picto.com.photostore.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// S3/DB 정합성 검사 진행 위치 (재기동 후 이어서 진행) + 실행 노드 임대 (여러 노드 중 하나만 실행)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "ReconciliationCheckpoint", schema = "photo_schema")
+public class ReconciliationCheckpoint {
+    @Id
+    @Column(name = "job_name", length = 40)
+    private String jobName;
+
+    // 이 키까지 검사 완료 (null이면 처음부터)
+    @Column(name = "last_key", length = 255)
+    private String lastKey;
+
+    @Column(name = "lease_owner", length = 36)
+    private String leaseOwner;
+
+    @Column(name = "lease_until", nullable = false)
+    private Long leaseUntil;
+
+    @Column(name = "updated_datetime", nullable = false)
+    private Long updatedDatetime;
+
+    public ReconciliationCheckpoint(String jobName) {
+        this.jobName = jobName;
+        this.leaseUntil = 0L;
+        this.updatedDatetime = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,24 @@
+package picto.com.photostore.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+// reactive 프로필에서 R2DBC로 매핑하는 User 테이블 (사진 API는 존재 확인만 필요)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "User", schema = "photo_schema")
+public class UserRow {
+    @Id
+    @Column("user_id")
+    private Long userId;
+
+    @Column("name")
+    private String name;
+
+    @Column("account_name")
+    private String accountName;
+}
@@ -0,0 +1,20 @@
+package picto.com.photostore.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+@Getter
+public class ResourceBusyException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ResourceBusyException(String message) {
+        this(message, 1);
+    }
+
+    public ResourceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
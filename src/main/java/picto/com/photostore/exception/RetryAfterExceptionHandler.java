@@ -0,0 +1,35 @@
+package picto.com.photostore.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 재시도 가능한 거절(429, 503)에 Retry-After 헤더를 붙여 응답
+@RestControllerAdvice
+public class RetryAfterExceptionHandler {
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleRateLimitExceeded(RateLimitExceededException e) {
+        return retryAfter(HttpStatus.TOO_MANY_REQUESTS, e.getMessage(), e.getRetryAfterSeconds());
+    }
+
+    @ExceptionHandler(ResourceBusyException.class)
+    public ResponseEntity<Map<String, Object>> handleResourceBusy(ResourceBusyException e) {
+        return retryAfter(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), e.getRetryAfterSeconds());
+    }
+
+    private static ResponseEntity<Map<String, Object>> retryAfter(HttpStatus status, String message, long retryAfterSeconds) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", message);
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(body);
+    }
+}
@@ -0,0 +1,19 @@
+package picto.com.photostore.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import picto.com.photostore.domain.CacheInvalidation;
+import java.util.List;
+
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+    List<CacheInvalidation> findTop500ByInvalidationIdGreaterThanOrderByInvalidationIdAsc(Long invalidationId);
+
+    @Query("select coalesce(max(c.invalidationId), 0) from CacheInvalidation c")
+    Long findMaxInvalidationId();
+
+    @Modifying
+    @Query("delete from CacheInvalidation c where c.createdDatetime < :before")
+    int deleteOlderThan(@Param("before") Long before);
+}
@@ -1,10 +1,50 @@
 package picto.com.photostore.repository;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import picto.com.photostore.domain.Photo;
 import picto.com.photostore.domain.User;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PhotoRepository extends JpaRepository<Photo, Long> {
     List<Photo> findByUser(User user);
+
+    // 유사 사진 인덱스 로딩용 (트랜잭션 안에서 사용)
+    @Query("select p.photoId as photoId, p.perceptualHash as perceptualHash " +
+            "from Photo p where p.perceptualHash is not null")
+    Stream<PhotoHashView> streamAllHashes();
+
+    // 다른 노드의 변경을 유사 사진 인덱스에 반영할 때 사용 (사진이 없거나 해시가 없으면 빈 값)
+    @Query("select p.perceptualHash from Photo p where p.photoId = :photoId")
+    Optional<Long> findPerceptualHashByPhotoId(@Param("photoId") Long photoId);
+
+    // S3 정합성 검사용 키 스트림 (after, upTo] 구간 (트랜잭션 안에서 사용)
+    // s3_file_name 컬럼이 utf8mb4_bin(README DDL)이라 S3 목록과 같은 순서(코드 포인트 순)로 비교/정렬되고 인덱스 범위로 읽음
+    // MySQL 드라이버 스트리밍 모드로 읽음
+    @Query(value = "select p.s3_file_name from photo_schema.Photo p " +
+            "where p.s3_file_name like concat(:prefix, '%') " +
+            "and p.s3_file_name > :after " +
+            "and p.s3_file_name <= :upTo " +
+            "order by p.s3_file_name", nativeQuery = true)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"))
+    Stream<String> streamS3FileNames(@Param("prefix") String prefix, @Param("after") String after, @Param("upTo") String upTo);
+
+    @Query(value = "select count(*) from photo_schema.Photo p " +
+            "where p.s3_file_name like concat(:prefix, '%') " +
+            "and p.s3_file_name > :after", nativeQuery = true)
+    long countS3FileNamesAfter(@Param("prefix") String prefix, @Param("after") String after);
+
+    // 오래된 액자 임시 사진 (temp_path/temp_file), afterPhotoId 이후부터 ID 순으로 (dry-run은 삭제하지 않으므로 커서로 넘김)
+    List<Photo> findTop500ByFrameActiveTrueAndS3FileNameAndRegisterDatetimeLessThanAndPhotoIdGreaterThanOrderByPhotoIdAsc(
+            String s3FileName, Long registerDatetime, Long afterPhotoId);
+
+    interface PhotoHashView {
+        Long getPhotoId();
+        Long getPerceptualHash();
+    }
 }
@@ -0,0 +1,27 @@
+package picto.com.photostore.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import picto.com.photostore.domain.ReconciliationCheckpoint;
+
+public interface ReconciliationCheckpointRepository extends JpaRepository<ReconciliationCheckpoint, String> {
+    // 임대가 만료되었거나 이미 자기 노드가 가진 경우에만 획득
+    @Modifying
+    @Query("update ReconciliationCheckpoint c set c.leaseOwner = :owner, c.leaseUntil = :until " +
+            "where c.jobName = :jobName and (c.leaseOwner = :owner or c.leaseUntil < :now)")
+    int acquireLease(@Param("jobName") String jobName, @Param("owner") String owner,
+                     @Param("until") Long until, @Param("now") Long now);
+
+    // 진행 위치 저장 + 임대 연장 (임대를 잃었으면 0)
+    @Modifying
+    @Query("update ReconciliationCheckpoint c set c.lastKey = :lastKey, c.leaseUntil = :until, c.updatedDatetime = :now " +
+            "where c.jobName = :jobName and c.leaseOwner = :owner")
+    int saveProgress(@Param("jobName") String jobName, @Param("owner") String owner, @Param("lastKey") String lastKey,
+                     @Param("until") Long until, @Param("now") Long now);
+
+    @Modifying
+    @Query("update ReconciliationCheckpoint c set c.leaseUntil = 0 where c.jobName = :jobName and c.leaseOwner = :owner")
+    int releaseLease(@Param("jobName") String jobName, @Param("owner") String owner);
+}
@@ -0,0 +1,7 @@
+package picto.com.photostore.repository.reactive;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import picto.com.photostore.domain.PhotoRow;
+
+public interface ReactivePhotoRepository extends R2dbcRepository<PhotoRow, Long> {
+}
@@ -0,0 +1,7 @@
+package picto.com.photostore.repository.reactive;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import picto.com.photostore.domain.UserRow;
+
+public interface ReactiveUserRepository extends R2dbcRepository<UserRow, Long> {
+}
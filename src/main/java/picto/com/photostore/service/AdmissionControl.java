@@ -0,0 +1,121 @@
+package picto.com.photostore.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.stereotype.Component;
+import picto.com.photostore.exception.InvalidOperationException;
+import picto.com.photostore.exception.RateLimitExceededException;
+import picto.com.photostore.exception.ResourceBusyException;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 업로드/다운로드 입장 제어: 클라이언트(인증 주체, 없으면 IP)별 업로드 토큰 버킷(429) + 전역 동시 처리 한도(503)
+// 한도를 넘은 요청은 대기열에 쌓지 않고 Retry-After와 함께 즉시 거절한다.
+@Component
+@Slf4j
+public class AdmissionControl {
+    private final Semaphore uploads;
+    private final Semaphore downloads;
+    private final long busyRetryAfterSeconds;
+    private final long uploadIntervalNanos;
+    private final int uploadBurst;
+    // 최근 업로드한 클라이언트만 유지 (최대 개수 + 유휴 만료로 메모리 제한)
+    private final Cache<String, TokenBucket> uploadBuckets;
+    private final PhotoMetrics photoMetrics;
+
+    public AdmissionControl(@Value("${photo.admission.max-concurrent-uploads:${photo.limits.db:${spring.datasource.hikari.maximum-pool-size:10}}}") int maxConcurrentUploads,
+                            @Value("${photo.admission.max-concurrent-downloads:256}") int maxConcurrentDownloads,
+                            @Value("${photo.admission.busy-retry-after-seconds:1}") long busyRetryAfterSeconds,
+                            @Value("${photo.admission.user-uploads-per-minute:30}") int uploadsPerMinute,
+                            @Value("${photo.admission.user-upload-burst:10}") int uploadBurst,
+                            @Value("${photo.admission.max-tracked-users:100000}") long maxTrackedUsers,
+                            @Value("${photo.admission.idle-expiry:10m}") Duration idleExpiry,
+                            PhotoMetrics photoMetrics) {
+        this.uploads = new Semaphore(maxConcurrentUploads);
+        this.downloads = new Semaphore(maxConcurrentDownloads);
+        this.busyRetryAfterSeconds = busyRetryAfterSeconds;
+        this.uploadIntervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, uploadsPerMinute);
+        this.uploadBurst = Math.max(1, uploadBurst);
+        // 버킷이 다시 가득 차기 전에 만료되면 한도가 초기화되므로 최소 채움 시간만큼은 유지
+        Duration refill = Duration.ofNanos(uploadIntervalNanos * this.uploadBurst);
+        this.uploadBuckets = Caffeine.newBuilder()
+                .maximumSize(maxTrackedUsers)
+                .expireAfterAccess(idleExpiry.compareTo(refill) < 0 ? refill : idleExpiry)
+                .build();
+        this.photoMetrics = photoMetrics;
+    }
+
+    // 업로드 입장 (클라이언트 한도 -> 전역 동시 업로드 한도 순서로 확인)
+    // 한도는 요청 본문의 userId가 아니라 clientKey 기준이므로 userId를 바꿔 보내도 우회되지 않음
+    public Permit acquireUpload(Long userId, String clientKey) {
+        if (userId == null) {
+            throw new InvalidOperationException("사용자 ID가 필요합니다.");
+        }
+        long now = System.nanoTime();
+        TokenBucket bucket = uploadBuckets.get(clientKey, key -> new TokenBucket(uploadIntervalNanos, uploadBurst, now));
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos > 0) {
+            photoMetrics.recordAdmissionRejected("upload", "rate_limited");
+            throw new RateLimitExceededException("업로드 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.",
+                    retryAfterSeconds(waitNanos));
+        }
+        try {
+            return acquire(uploads, "upload");
+        } catch (ResourceBusyException e) {
+            // 서버 사정으로 거절한 요청은 클라이언트 한도에서 빼지 않음
+            bucket.refund();
+            throw e;
+        }
+    }
+
+    // 토큰 버킷 키: 인증된 사용자면 사용자 이름, 아니면 클라이언트 IP
+    public static String clientKey(Principal principal, String remoteAddress) {
+        if (principal != null && !(principal instanceof AnonymousAuthenticationToken)) {
+            return "user:" + principal.getName();
+        }
+        return "ip:" + (remoteAddress == null ? "unknown" : remoteAddress);
+    }
+
+    // 다음 토큰까지 남은 시간(초 단위 올림, 최소 1초)
+    static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + 999_999_999) / 1_000_000_000);
+    }
+
+    // 다운로드 입장 (전역 동시 다운로드 한도)
+    public Permit acquireDownload() {
+        return acquire(downloads, "download");
+    }
+
+    private Permit acquire(Semaphore semaphore, String operation) {
+        if (!semaphore.tryAcquire()) {
+            log.warn("동시 {} 한도 초과로 요청 거절", operation);
+            photoMetrics.recordAdmissionRejected(operation, "busy");
+            throw new ResourceBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", busyRetryAfterSeconds);
+        }
+        return new Permit(semaphore);
+    }
+
+    // 입장 허가 (close는 여러 번 호출해도 한 번만 반납)
+    public static final class Permit implements AutoCloseable {
+        private final Semaphore semaphore;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Semaphore semaphore) {
+            this.semaphore = semaphore;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                semaphore.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package picto.com.photostore.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import picto.com.photostore.domain.CacheInvalidation;
+import picto.com.photostore.repository.CacheInvalidationRepository;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+// DB 무효화 로그를 통한 노드 간 캐시 일관성 유지
+// 변경 트랜잭션에서 로그를 남기고, 각 노드는 high-watermark 이후 로그만 주기적으로 읽어 로컬 캐시를 제거한다.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationService {
+    public static final String PHOTO = "photo";
+    public static final String USER = "user";
+
+    private static final int MAX_PENDING_GAPS = 10_000;
+
+    private final CacheInvalidationRepository cacheInvalidationRepository;
+    private final EntityCacheService entityCacheService;
+    private final PhotoHashIndex photoHashIndex;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    // DB 조회를 감싸므로 synchronized 대신 사용 (가상 스레드 pinning 방지)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 이 ID까지의 로그는 처리 완료
+    private long watermark = -1;
+    // 아직 커밋되지 않았을 수 있는 ID 구간 (ID -> 처음 발견 시각)
+    private final Map<Long, Long> pendingGaps = new LinkedHashMap<>();
+
+    @Value("${cache.invalidation.gap-timeout-ms:60000}")
+    private long gapTimeoutMillis;
+
+    @Value("${cache.invalidation.retention-ms:3600000}")
+    private long retentionMillis;
+
+    // 호출한 트랜잭션 안에서 무효화 로그 기록 + 커밋 후 로컬 캐시 제거
+    @Transactional
+    public void invalidatePhoto(Long photoId) {
+        publish(PHOTO, photoId);
+        entityCacheService.evictPhotoAfterCommit(photoId);
+    }
+
+    private void publish(String cacheName, Long key) {
+        cacheInvalidationRepository.save(CacheInvalidation.builder()
+                .cacheName(cacheName)
+                .cacheKey(key)
+                .nodeId(nodeId)
+                .build());
+    }
+
+    // 기동 이전의 로그는 적용할 필요 없음
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initWatermark() {
+        lock.lock();
+        try {
+            watermark = cacheInvalidationRepository.findMaxInvalidationId();
+        } finally {
+            lock.unlock();
+        }
+        log.info("캐시 무효화 로그 구독 시작: node={}, watermark={}", nodeId, watermark);
+    }
+
+    // 레플리카 지연을 피하기 위해 읽기 전용이 아닌 트랜잭션(primary)에서 조회
+    @Scheduled(fixedDelayString = "${cache.invalidation.poll-interval-ms:1000}")
+    @Transactional
+    public void poll() {
+        lock.lock();
+        try {
+            if (watermark < 0) {
+                return;
+            }
+            recheckGaps();
+
+            List<CacheInvalidation> invalidations;
+            do {
+                invalidations = cacheInvalidationRepository
+                        .findTop500ByInvalidationIdGreaterThanOrderByInvalidationIdAsc(watermark);
+                for (CacheInvalidation invalidation : invalidations) {
+                    long id = invalidation.getInvalidationId();
+                    // 건너뛴 ID는 늦게 커밋되는 트랜잭션일 수 있으므로 기억해 두고 다시 확인
+                    for (long missing = watermark + 1; missing < id && pendingGaps.size() < MAX_PENDING_GAPS; missing++) {
+                        pendingGaps.put(missing, System.currentTimeMillis());
+                    }
+                    apply(invalidation);
+                    watermark = id;
+                }
+            } while (invalidations.size() == 500);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recheckGaps() {
+        if (pendingGaps.isEmpty()) {
+            return;
+        }
+        for (CacheInvalidation invalidation : cacheInvalidationRepository.findAllById(new ArrayList<>(pendingGaps.keySet()))) {
+            pendingGaps.remove(invalidation.getInvalidationId());
+            apply(invalidation);
+        }
+        // 롤백된 트랜잭션의 ID는 영원히 비어 있으므로 일정 시간 후 포기
+        long expiredBefore = System.currentTimeMillis() - gapTimeoutMillis;
+        Iterator<Long> firstSeen = pendingGaps.values().iterator();
+        while (firstSeen.hasNext()) {
+            if (firstSeen.next() < expiredBefore) {
+                firstSeen.remove();
+            }
+        }
+    }
+
+    private void apply(CacheInvalidation invalidation) {
+        // 자기 노드의 변경은 커밋 시점에 이미 제거함
+        if (nodeId.equals(invalidation.getNodeId())) {
+            return;
+        }
+        switch (invalidation.getCacheName()) {
+            case PHOTO -> {
+                entityCacheService.evictPhoto(invalidation.getCacheKey());
+                photoHashIndex.refresh(invalidation.getCacheKey());
+            }
+            // 사용자는 다른 서비스가 변경하므로 DB 트리거가 기록 (README 참고)
+            case USER -> entityCacheService.evictUser(invalidation.getCacheKey());
+            default -> log.warn("알 수 없는 캐시 무효화 대상: {}", invalidation.getCacheName());
+        }
+    }
+
+    // 오래된 무효화 로그 정리
+    @Scheduled(fixedDelayString = "${cache.invalidation.cleanup-interval-ms:600000}")
+    @Transactional
+    public void cleanup() {
+        int deleted = cacheInvalidationRepository.deleteOlderThan(System.currentTimeMillis() - retentionMillis);
+        if (deleted > 0) {
+            log.info("캐시 무효화 로그 {}건 정리", deleted);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package picto.com.photostore.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import picto.com.photostore.exception.ResourceBusyException;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 외부 자원(S3, DB 커넥션 풀, 세션 스케줄러) 동시 호출 수 제한
+// 가상 스레드 모드에서는 요청 스레드 수가 자원 사용량을 제한하지 못하므로 세마포어로 제한한다.
+@Component
+@Slf4j
+public class ConcurrencyLimiter {
+    public enum Resource {
+        S3,
+        DB,
+        SCHEDULER
+    }
+
+    private final Map<Resource, Semaphore> semaphores = new EnumMap<>(Resource.class);
+    private final long acquireTimeoutMillis;
+
+    public ConcurrencyLimiter(@Value("${photo.limits.s3:64}") int s3Permits,
+                              @Value("${photo.limits.db:${spring.datasource.hikari.maximum-pool-size:10}}") int dbPermits,
+                              @Value("${photo.limits.scheduler:16}") int schedulerPermits,
+                              @Value("${photo.limits.acquire-timeout-ms:5000}") long acquireTimeoutMillis) {
+        semaphores.put(Resource.S3, new Semaphore(s3Permits, true));
+        semaphores.put(Resource.DB, new Semaphore(dbPermits, true));
+        semaphores.put(Resource.SCHEDULER, new Semaphore(schedulerPermits, true));
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    public <T> T call(Resource resource, Supplier<T> action) {
+        Semaphore semaphore = semaphores.get(resource);
+        acquire(resource, semaphore);
+        try {
+            return action.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    public void run(Resource resource, Runnable action) {
+        call(resource, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private void acquire(Resource resource, Semaphore semaphore) {
+        try {
+            if (!semaphore.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("{} 동시 호출 한도 초과 (대기 {}ms)", resource, acquireTimeoutMillis);
+                throw new ResourceBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceBusyException("요청 처리가 중단되었습니다.");
+        }
+    }
+
+    public int availablePermits(Resource resource) {
+        return semaphores.get(resource).availablePermits();
+    }
+}
@@ -0,0 +1,116 @@
+package picto.com.photostore.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import picto.com.photostore.domain.Photo;
+import picto.com.photostore.domain.User;
+import picto.com.photostore.repository.UserRepository;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Photo/User 2차 캐시 무효화 및 사용자 존재 여부 캐시
+@Component
+@RequiredArgsConstructor
+public class EntityCacheService {
+    public static final String PHOTO_REGION = "photo";
+    public static final String USER_REGION = "user";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final UserRepository userRepository;
+    // 존재하는 사용자만 캐싱 (없는 사용자는 매번 DB 확인)
+    private final Cache<Long, Boolean> existingUsers = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .recordStats()
+            .build();
+
+    public boolean userExists(Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        if (existingUsers.getIfPresent(userId) != null) {
+            return true;
+        }
+        boolean exists = userRepository.existsById(userId);
+        if (exists) {
+            existingUsers.put(userId, Boolean.TRUE);
+        }
+        return exists;
+    }
+
+    // 트랜잭션 커밋 후 사진 캐시 제거 (트랜잭션 밖이면 즉시 제거)
+    public void evictPhotoAfterCommit(Long photoId) {
+        if (photoId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictPhoto(photoId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictPhoto(photoId);
+            }
+        });
+    }
+
+    public void evictPhoto(Long photoId) {
+        entityManagerFactory.getCache().evict(Photo.class, photoId);
+    }
+
+    public void evictUser(Long userId) {
+        existingUsers.invalidate(userId);
+        entityManagerFactory.getCache().evict(User.class, userId);
+    }
+
+    // 캐시 적중률 통계
+    public Map<String, Object> getStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        // 꺼져 있으면 2차 캐시 수치는 모두 0 (photo.cache.statistics-enabled)
+        result.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        for (String region : new String[]{PHOTO_REGION, USER_REGION}) {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            if (regionStatistics == null) {
+                continue;
+            }
+            long hits = regionStatistics.getHitCount();
+            long misses = regionStatistics.getMissCount();
+
+            Map<String, Object> regionResult = new LinkedHashMap<>();
+            regionResult.put("hits", hits);
+            regionResult.put("misses", misses);
+            regionResult.put("puts", regionStatistics.getPutCount());
+            regionResult.put("hitRate", hitRate(hits, misses));
+            regionResult.put("elementsInMemory", regionStatistics.getElementCountInMemory());
+            result.put(region, regionResult);
+        }
+
+        CacheStats userStats = existingUsers.stats();
+        Map<String, Object> userExistence = new LinkedHashMap<>();
+        userExistence.put("hits", userStats.hitCount());
+        userExistence.put("misses", userStats.missCount());
+        userExistence.put("hitRate", hitRate(userStats.hitCount(), userStats.missCount()));
+        userExistence.put("size", existingUsers.estimatedSize());
+        result.put("userExistence", userExistence);
+        return result;
+    }
+
+    private static double hitRate(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
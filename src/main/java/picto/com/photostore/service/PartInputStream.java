@@ -0,0 +1,71 @@
+package picto.com.photostore.service;
+
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+// S3로 보내는 파트를 해시 계산 스레드에 순서대로 넘기는 스트림 (이벤트 루프는 넣기만 하고, 읽은 파트는 바로 참조 해제)
+class PartInputStream extends InputStream {
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+    private final BlockingQueue<ByteBuffer> parts = new LinkedBlockingQueue<>();
+    private ByteBuffer current = ByteBuffer.allocate(0);
+    private volatile boolean closed;
+
+    // 이벤트 루프에서 호출 (막지 않음), 읽기를 마친 뒤에 들어온 파트는 버림
+    void add(ByteBuffer part) {
+        if (!closed) {
+            parts.add(part.asReadOnlyBuffer());
+        }
+        if (closed) {
+            parts.clear();
+        }
+    }
+
+    // 업로드가 끝나거나 실패하면 호출 (읽는 쪽은 남은 파트를 읽은 뒤 EOF)
+    void finish() {
+        parts.add(END);
+    }
+
+    @Override
+    public int read() throws InterruptedIOException {
+        return nextPart() ? current.get() & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws InterruptedIOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!nextPart()) {
+            return -1;
+        }
+        int count = Math.min(length, current.remaining());
+        current.get(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        parts.clear();
+        current = END;
+    }
+
+    private boolean nextPart() throws InterruptedIOException {
+        while (!current.hasRemaining()) {
+            if (current == END) {
+                return false;
+            }
+            try {
+                current = parts.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("파트 대기 중 인터럽트");
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,68 @@
+package picto.com.photostore.service;
+
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.io.IOException;
+import java.io.InputStream;
+
+@Service
+@Slf4j
+public class PerceptualHashService {
+    private static final int HASH_WIDTH = 9;
+    private static final int HASH_HEIGHT = 8;
+
+    // 업로드 파일의 dHash 계산 (디코딩 불가 포맷이면 null)
+    public Long computeHash(MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream()) {
+            return computeHash(inputStream, file.getContentType());
+        } catch (IOException e) {
+            log.warn("이미지 해시 계산 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 이미지 스트림의 dHash 계산 (reactive 업로드는 S3로 보내는 파트를 차례로 흘려 전달)
+    public Long computeHash(InputStream inputStream, String contentType) {
+        try {
+            BufferedImage image = ImageIO.read(inputStream);
+            if (image == null) {
+                log.warn("해시 계산을 지원하지 않는 이미지 형식입니다: {}", contentType);
+                return null;
+            }
+            return dHash(image);
+        } catch (IOException e) {
+            log.warn("이미지 해시 계산 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 9x8 흑백 축소 후 가로로 인접한 픽셀 밝기 비교 -> 64비트
+    public long dHash(BufferedImage image) throws IOException {
+        BufferedImage gray = Thumbnails.of(image)
+                .forceSize(HASH_WIDTH, HASH_HEIGHT)
+                .imageType(BufferedImage.TYPE_BYTE_GRAY)
+                .asBufferedImage();
+        Raster raster = gray.getRaster();
+
+        long hash = 0L;
+        for (int y = 0; y < HASH_HEIGHT; y++) {
+            for (int x = 0; x < HASH_WIDTH - 1; x++) {
+                hash <<= 1;
+                if (raster.getSample(x, y, 0) > raster.getSample(x + 1, y, 0)) {
+                    hash |= 1L;
+                }
+            }
+        }
+        return hash;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+}
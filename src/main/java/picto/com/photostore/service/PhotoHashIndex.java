@@ -0,0 +1,242 @@
+package picto.com.photostore.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import picto.com.photostore.repository.PhotoRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+// perceptual hash 기반 유사 사진 인덱스 (인메모리 multi-index hashing)
+// 64비트 해시를 16비트 조각 4개로 나눠 조각별 테이블에 넣는다. 해밍 거리가 k 이하면 적어도 한 조각은 k/4 이하로 다르므로
+// 각 조각에서 k/4 비트 이내의 버킷만 확인하면 된다 (BK-tree는 무작위에 가까운 64비트 해시에서 k=10이면 대부분의 노드를 방문함).
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PhotoHashIndex {
+    private static final int CHUNKS = 4;
+    private static final int CHUNK_BITS = Long.SIZE / CHUNKS;
+    private static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+    // 조각 반경이 이보다 크면 버킷 열거(조각당 최대 697개)보다 전체 비교가 나음 (maxDistance 16 이상)
+    private static final int MAX_CHUNK_RADIUS = 3;
+    // 반경별 16비트 반전 마스크 (비트 수 0~r)
+    private static final int[][] FLIP_MASKS = flipMasks();
+
+    private final PhotoRepository photoRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 조각별 테이블: 조각 값 -> [사진 ID, 해시, 사진 ID, 해시, ...] (객체 없이 배열 하나로 두어 조회 시 메모리 접근을 줄임)
+    private final long[][][] buckets = new long[CHUNKS][1 << CHUNK_BITS][];
+    // 버킷별 사진 수 (빈 버킷은 배열을 읽지 않고 건너뜀)
+    private final int[][] bucketSizes = new int[CHUNKS][1 << CHUNK_BITS];
+    // 사진 ID -> 해시 (다른 노드의 변경을 사진 ID만으로 반영하기 위해 유지)
+    private final Map<Long, Long> hashes = new HashMap<>();
+
+    // 애플리케이션 시작 시 DB의 해시로 인덱스 구성
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long start = System.currentTimeMillis();
+        try (Stream<PhotoRepository.PhotoHashView> hashes = photoRepository.streamAllHashes()) {
+            hashes.forEach(view -> add(view.getPhotoId(), view.getPerceptualHash()));
+        }
+        log.info("유사 사진 인덱스 로딩 완료: {}건, {}ms", size(), System.currentTimeMillis() - start);
+    }
+
+    // 트랜잭션 커밋 후 인덱스에 추가 (롤백되면 추가하지 않음, 트랜잭션 밖이면 즉시 추가)
+    public void addAfterCommit(Long photoId, Long hash) {
+        afterCommit(() -> add(photoId, hash));
+    }
+
+    // 트랜잭션 커밋 후 인덱스에서 제거 (트랜잭션 밖이면 즉시 제거)
+    public void removeAfterCommit(Long photoId) {
+        afterCommit(() -> remove(photoId));
+    }
+
+    // 다른 노드가 바꾼 사진을 DB 기준으로 다시 반영 (삭제됐거나 해시가 없으면 제거)
+    public void refresh(Long photoId) {
+        photoRepository.findPerceptualHashByPhotoId(photoId)
+                .ifPresentOrElse(hash -> add(photoId, hash), () -> remove(photoId));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 이미 있는 사진이면 해시를 교체
+    public void add(Long photoId, Long hash) {
+        if (photoId == null || hash == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Long previous = hashes.put(photoId, hash);
+            if (previous != null) {
+                if (previous.equals(hash)) {
+                    return;
+                }
+                removeFromTables(photoId, previous);
+            }
+            for (int chunk = 0; chunk < CHUNKS; chunk++) {
+                addToBucket(chunk, chunk(hash, chunk), photoId, hash);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long photoId) {
+        if (photoId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Long hash = hashes.remove(photoId);
+            if (hash != null) {
+                removeFromTables(photoId, hash);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addToBucket(int chunk, int key, long photoId, long hash) {
+        long[] bucket = buckets[chunk][key];
+        int size = bucketSizes[chunk][key];
+        if (bucket == null) {
+            bucket = new long[4];
+        } else if (size * 2 == bucket.length) {
+            bucket = Arrays.copyOf(bucket, bucket.length * 2);
+        }
+        bucket[size * 2] = photoId;
+        bucket[size * 2 + 1] = hash;
+        buckets[chunk][key] = bucket;
+        bucketSizes[chunk][key] = size + 1;
+    }
+
+    private void removeFromTables(long photoId, long hash) {
+        for (int chunk = 0; chunk < CHUNKS; chunk++) {
+            int key = chunk(hash, chunk);
+            long[] bucket = buckets[chunk][key];
+            int size = bucketSizes[chunk][key];
+            for (int i = 0; i < size; i++) {
+                if (bucket[i * 2] == photoId) {
+                    // 마지막 항목을 빈자리로 옮김
+                    size--;
+                    bucket[i * 2] = bucket[size * 2];
+                    bucket[i * 2 + 1] = bucket[size * 2 + 1];
+                    bucketSizes[chunk][key] = size;
+                    if (size == 0) {
+                        buckets[chunk][key] = null;
+                    }
+                    break;
+                }
+            }
+        }
+    }
+
+    // 해밍 거리 maxDistance 이내의 사진을 거리 순으로 반환 (excludePhotoId 제외)
+    public List<Match> findSimilar(long hash, int maxDistance, Long excludePhotoId, int limit) {
+        List<Match> matches = new ArrayList<>();
+        int radius = maxDistance / CHUNKS;
+        lock.readLock().lock();
+        try {
+            if (radius > MAX_CHUNK_RADIUS) {
+                for (Map.Entry<Long, Long> entry : hashes.entrySet()) {
+                    addIfMatches(matches, entry.getKey(), entry.getValue(), hash, maxDistance, excludePhotoId);
+                }
+            } else {
+                for (int chunk = 0; chunk < CHUNKS; chunk++) {
+                    int key = chunk(hash, chunk);
+                    int[] sizes = bucketSizes[chunk];
+                    long[][] table = buckets[chunk];
+                    for (int mask : FLIP_MASKS[radius]) {
+                        int size = sizes[key ^ mask];
+                        if (size == 0) {
+                            continue;
+                        }
+                        long[] bucket = table[key ^ mask];
+                        for (int i = 0; i < size; i++) {
+                            long candidate = bucket[i * 2 + 1];
+                            // 앞 조각에서 이미 찾은 후보는 건너뜀 (중복 제거)
+                            if (!foundInEarlierChunk(candidate, hash, chunk, radius)) {
+                                addIfMatches(matches, bucket[i * 2], candidate, hash, maxDistance, excludePhotoId);
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(Comparator.comparingInt(Match::distance).thenComparingLong(Match::photoId));
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    private static void addIfMatches(List<Match> matches, long photoId, long candidate, long hash, int maxDistance,
+                                     Long excludePhotoId) {
+        int distance = PerceptualHashService.distance(candidate, hash);
+        if (distance <= maxDistance && (excludePhotoId == null || photoId != excludePhotoId)) {
+            matches.add(new Match(photoId, distance));
+        }
+    }
+
+    private static boolean foundInEarlierChunk(long candidate, long hash, int chunk, int radius) {
+        for (int earlier = 0; earlier < chunk; earlier++) {
+            if (Integer.bitCount(chunk(candidate, earlier) ^ chunk(hash, earlier)) <= radius) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int chunk(long hash, int chunk) {
+        return (int) (hash >>> (chunk * CHUNK_BITS)) & CHUNK_MASK;
+    }
+
+    private static int[][] flipMasks() {
+        int[][] masks = new int[MAX_CHUNK_RADIUS + 1][];
+        for (int radius = 0; radius <= MAX_CHUNK_RADIUS; radius++) {
+            int maxBits = radius;
+            masks[radius] = IntStream.rangeClosed(0, CHUNK_MASK)
+                    .filter(mask -> Integer.bitCount(mask) <= maxBits)
+                    .toArray();
+        }
+        return masks;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return hashes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public record Match(long photoId, int distance) {
+    }
+}
@@ -0,0 +1,138 @@
+package picto.com.photostore.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 사진 서비스 메트릭 (태그 값은 코드에 고정된 작은 집합만 사용: 사용자/사진 ID, 파일명 금지)
+@Component
+public class PhotoMetrics {
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+
+    private final MeterRegistry registry;
+    // 매 호출마다 Meter.Id를 만들지 않도록 캐시
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public PhotoMetrics(MeterRegistry registry, ConcurrencyLimiter concurrencyLimiter) {
+        this.registry = registry;
+        for (ConcurrencyLimiter.Resource resource : ConcurrencyLimiter.Resource.values()) {
+            Gauge.builder("photo.limiter.available.permits", concurrencyLimiter, limiter -> limiter.availablePermits(resource))
+                    .tag("resource", resource.name().toLowerCase())
+                    .register(registry);
+        }
+    }
+
+    // PhotoService 단계별 지연 (operation: upload, frame_upload, share, delete / phase: validate, user_lookup, s3_put ...)
+    public <T> T timePhase(String operation, String phase, Supplier<T> action) {
+        long start = System.nanoTime();
+        String outcome = ERROR;
+        try {
+            T result = action.get();
+            outcome = SUCCESS;
+            return result;
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            phaseTimer(operation, phase, outcome).record(elapsedNanos, TimeUnit.NANOSECONDS);
+            RequestTiming.Category category = requestTimingCategory(phase);
+            if (category != null) {
+                RequestTiming.record(category, elapsedNanos);
+            }
+        }
+    }
+
+    // S3/스케줄러 단계는 각 클라이언트에서 직접 기록하므로 중복 집계하지 않음
+    private static RequestTiming.Category requestTimingCategory(String phase) {
+        return switch (phase) {
+            case "user_lookup", "photo_lookup", "db_save", "db_delete" -> RequestTiming.Category.DB;
+            case "hash" -> RequestTiming.Category.IMAGE;
+            default -> null;
+        };
+    }
+
+    public void timePhase(String operation, String phase, Runnable action) {
+        timePhase(operation, phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    // S3 작업 지연과 전송 바이트 (operation: put, get, delete)
+    public void recordS3(String operation, String outcome, long elapsedNanos, long bytes) {
+        timer("photo.s3.requests", Duration.ofMillis(1), Duration.ofSeconds(30),
+                "operation", operation, "outcome", outcome)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        RequestTiming.record(RequestTiming.Category.S3, elapsedNanos);
+        if (bytes > 0) {
+            summaries.computeIfAbsent(operation, key -> DistributionSummary.builder("photo.s3.bytes")
+                            .baseUnit("bytes")
+                            .tag("operation", operation)
+                            .publishPercentileHistogram()
+                            .minimumExpectedValue(1024.0)
+                            .maximumExpectedValue(16.0 * 1024 * 1024)
+                            .register(registry))
+                    .record(bytes);
+        }
+    }
+
+    // 세션 스케줄러 호출 지연 (outcome: success, error / S3와 같이 permit 대기 시간은 제외)
+    public void recordScheduler(String outcome, long elapsedNanos) {
+        timer("photo.session.scheduler.requests", Duration.ofMillis(1), Duration.ofSeconds(10), "outcome", outcome)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        RequestTiming.record(RequestTiming.Category.SCHEDULER, elapsedNanos);
+    }
+
+    // 호출하지 않은 세션 스케줄러 요청 (reason: disabled, busy) - 지연이 없으므로 타이머가 아닌 카운터
+    public void recordSchedulerSkipped(String reason) {
+        counters.computeIfAbsent("scheduler:" + reason, key -> Counter.builder("photo.session.scheduler.skipped")
+                        .tag("reason", reason)
+                        .register(registry))
+                .increment();
+    }
+
+    // 입장 제어로 거절된 요청 (operation: upload, download / reason: rate_limited, busy)
+    public void recordAdmissionRejected(String operation, String reason) {
+        counters.computeIfAbsent(operation + ":" + reason, key -> Counter.builder("photo.admission.rejected")
+                        .tag("operation", operation)
+                        .tag("reason", reason)
+                        .register(registry))
+                .increment();
+    }
+
+    // S3/DB 정합성 검사 결과 (result: orphan_found, orphan_deleted, orphan_recent, missing_in_s3, placeholder_found, placeholder_expired)
+    // *_found는 dry-run에서도 기록
+    public void recordReconciliation(String result, long count) {
+        if (count > 0) {
+            counters.computeIfAbsent("reconciliation:" + result, key -> Counter.builder("photo.reconciliation.items")
+                            .tag("result", result)
+                            .register(registry))
+                    .increment(count);
+        }
+    }
+
+    private Timer phaseTimer(String operation, String phase, String outcome) {
+        return timer("photo.service.phase", Duration.ofMillis(1), Duration.ofSeconds(30),
+                "operation", operation, "phase", phase, "outcome", outcome);
+    }
+
+    private Timer timer(String name, Duration min, Duration max, String... tags) {
+        String key = name + ":" + String.join(",", tags);
+        return timers.computeIfAbsent(key, ignored -> Timer.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(min)
+                .maximumExpectedValue(max)
+                .register(registry));
+    }
+}
@@ -2,6 +2,7 @@ package picto.com.photostore.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -13,6 +14,12 @@ import picto.com.photostore.exception.*;
 import picto.com.photostore.repository.PhotoRepository;
 import picto.com.photostore.repository.UserRepository;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -22,15 +29,28 @@ public class PhotoService {
     private final PhotoRepository photoRepository;
     private final UserRepository userRepository;
     private final SessionSchedulerClient sessionSchedulerClient;
+    private final PerceptualHashService perceptualHashService;
+    private final PhotoHashIndex photoHashIndex;
+    private final EntityCacheService entityCacheService;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final PhotoMetrics photoMetrics;
+
+    @Value("${photo.similarity.max-distance:10}")
+    private int similarityMaxDistance;
+
+    @Value("${photo.similarity.max-results:20}")
+    private int similarityMaxResults;
 
     // 사진 업로드
     public PhotoResponse uploadPhoto(MultipartFile file, PhotoUploadRequest request) {
         try {
             // 파일 유효성 검사
-            validateFile(file);
-            // 업로드 요청 사용자 정보 조회
-            User user = userRepository.findById(request.getUserId())
-                    .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+            photoMetrics.timePhase("upload", "validate", () -> validateFile(file));
+            // 업로드 요청 사용자 존재 확인 (FK 연결용 프록시만 사용)
+            if (!photoMetrics.timePhase("upload", "user_lookup", () -> entityCacheService.userExists(request.getUserId()))) {
+                throw new UserNotFoundException("사용자를 찾을 수 없습니다.");
+            }
+            User user = userRepository.getReferenceById(request.getUserId());
 
             // 프레임 true
             if (request.isFrameActive()) {
@@ -39,6 +59,8 @@ public class PhotoService {
             }
             // 프레임 false 사진 업로드
             return createAndUploadPhoto(file, request, user);
+        } catch (ResourceBusyException e) {
+            throw e;
         } catch (Exception e) {
             log.error("사진 업로드 실패", e);
             throw new PhotoUploadException("사진 업로드 중 오류가 발생했습니다.", e);
@@ -61,13 +83,17 @@ public class PhotoService {
                 .sharedActive(false)
                 .build();
 
-        return PhotoResponse.from(photoRepository.save(photo));
+        return PhotoResponse.from(photoMetrics.timePhase("upload", "db_save", () -> photoRepository.save(photo)));
     }
 
     // frame false 사진 업로드
     private PhotoResponse createAndUploadPhoto(MultipartFile file, PhotoUploadRequest request, User user) {
         try {
-            String fileName = s3Service.uploadFile(file);
+            // 중복 의심 사진 탐지를 위한 해시 계산
+            Long perceptualHash = photoMetrics.timePhase("upload", "hash", () -> perceptualHashService.computeHash(file));
+            List<Long> similarPhotoIds = findSimilarPhotoIds(perceptualHash, null);
+
+            String fileName = photoMetrics.timePhase("upload", "s3_put", () -> s3Service.uploadFile(file));
             String photoPath = s3Service.getFileUrl(fileName);
 
             Photo photo = Photo.builder()
@@ -82,16 +108,22 @@ public class PhotoService {
                     .views(0)
                     .frameActive(false)
                     .sharedActive(request.isSharedActive())
+                    .perceptualHash(perceptualHash)
                     .build();
 
-            Photo savedPhoto = photoRepository.save(photo);
+            Photo savedPhoto = photoMetrics.timePhase("upload", "db_save", () -> photoRepository.save(photo));
+            photoHashIndex.addAfterCommit(savedPhoto.getPhotoId(), perceptualHash);
+            // 다른 노드의 유사 사진 인덱스에도 반영
+            cacheInvalidationService.invalidatePhoto(savedPhoto.getPhotoId());
 
             // Shared true인 경우
             if (request.isSharedActive()) {
-                scheduleSession(savedPhoto);
+                photoMetrics.timePhase("upload", "scheduler", () -> scheduleSession(savedPhoto));
             }
 
-            return PhotoResponse.from(savedPhoto);
+            return PhotoResponse.from(savedPhoto, similarPhotoIds);
+        } catch (ResourceBusyException e) {
+            throw e;
         } catch (Exception e) {
             throw new PhotoUploadException("사진 업로드 중 오류가 발생했습니다.", e);
         }
@@ -101,7 +133,7 @@ public class PhotoService {
     @Transactional
     public PhotoResponse uploadFramePhoto(Long photoId, MultipartFile file, PhotoUploadRequest request) {
         // 사진 조회
-        Photo photo = photoRepository.findById(photoId)
+        Photo photo = photoMetrics.timePhase("frame_upload", "photo_lookup", () -> photoRepository.findById(photoId))
                 .orElseThrow(() -> new PhotoNotFoundException("프레임 사진을 찾을 수 없습니다."));
 
         // 액자 사진인지 확인
@@ -110,10 +142,13 @@ public class PhotoService {
         }
 
         // 파일 유효성 검사
-        validateFile(file);
+        photoMetrics.timePhase("frame_upload", "validate", () -> validateFile(file));
 
         try {
-            String fileName = s3Service.uploadFile(file);
+            Long perceptualHash = photoMetrics.timePhase("frame_upload", "hash", () -> perceptualHashService.computeHash(file));
+            List<Long> similarPhotoIds = findSimilarPhotoIds(perceptualHash, photoId);
+
+            String fileName = photoMetrics.timePhase("frame_upload", "s3_put", () -> s3Service.uploadFile(file));
             String photoPath = s3Service.getFileUrl(fileName);
 
             // 기존 사진 정보 업데이트
@@ -127,24 +162,30 @@ public class PhotoService {
                     false,
                     request.isSharedActive()
             );
+            photoHashIndex.removeAfterCommit(photoId);
+            photo.updatePerceptualHash(perceptualHash);
 
-            Photo updatedPhoto = photoRepository.save(photo);
+            Photo updatedPhoto = photoMetrics.timePhase("frame_upload", "db_save", () -> photoRepository.save(photo));
+            photoHashIndex.addAfterCommit(updatedPhoto.getPhotoId(), perceptualHash);
+            cacheInvalidationService.invalidatePhoto(photoId);
 
             // Shared true인 경우
             if (request.isSharedActive()) {
                 try {
-                    sessionSchedulerClient.scheduleSession(
+                    photoMetrics.timePhase("frame_upload", "scheduler", () -> sessionSchedulerClient.scheduleSession(
                             updatedPhoto.getPhotoId(),
                             updatedPhoto.getUser().getUserId(),
                             updatedPhoto.getLng(),
                             updatedPhoto.getLat()
-                    );
+                    ));
                 } catch (Exception e) {
                     log.warn("Session scheduler is not available: {}", e.getMessage());
                 }
             }
 
-            return PhotoResponse.from(updatedPhoto);
+            return PhotoResponse.from(updatedPhoto, similarPhotoIds);
+        } catch (ResourceBusyException e) {
+            throw e;
         } catch (Exception e) {
             log.error("프레임 사진 업로드 실패", e);
             throw new PhotoUploadException("프레임 사진 업로드 중 문제가 발생했습니다.", e);
@@ -177,19 +218,23 @@ public class PhotoService {
         // Shared true인 경우
         if (shared) {
             try {
-                sessionSchedulerClient.scheduleSession(
+                photoMetrics.timePhase("share", "scheduler", () -> sessionSchedulerClient.scheduleSession(
                         photo.getPhotoId(),
                         photo.getUser().getUserId(),
                         photo.getLng(),
                         photo.getLat()
-                );
+                ));
+            } catch (ResourceBusyException e) {
+                throw e;
             } catch (Exception e) {
                 log.error("공유 상태 변경 중 세션 스케줄러 호출 실패", e);
                 throw new SessionSchedulerException("세션 스케줄링 실패", e);
             }
         }
 
-        return PhotoResponse.from(photoRepository.save(photo));
+        Photo updatedPhoto = photoMetrics.timePhase("share", "db_save", () -> photoRepository.save(photo));
+        cacheInvalidationService.invalidatePhoto(photoId);
+        return PhotoResponse.from(updatedPhoto);
     }
 
     // 사진 삭제
@@ -204,8 +249,12 @@ public class PhotoService {
         }
 
         try {
-            s3Service.deleteFile(photo.getS3FileName());
-            photoRepository.delete(photo);
+            photoMetrics.timePhase("delete", "s3_delete", () -> s3Service.deleteFile(photo.getS3FileName()));
+            photoMetrics.timePhase("delete", "db_delete", () -> photoRepository.delete(photo));
+            photoHashIndex.removeAfterCommit(photoId);
+            cacheInvalidationService.invalidatePhoto(photoId);
+        } catch (ResourceBusyException e) {
+            throw e;
         } catch (Exception e) {
             log.error("사진 삭제 중 오류 발생", e);
             throw new FileDeleteException("사진 삭제 중 오류가 발생했습니다.", e);
@@ -220,6 +269,8 @@ public class PhotoService {
                     photo.getLng(),
                     photo.getLat()
             );
+        } catch (ResourceBusyException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Session scheduler call failed", e);
             throw new SessionSchedulerException("세션 스케줄링 실패", e);
@@ -227,13 +278,58 @@ public class PhotoService {
     }
 
     // 사진 ID 사진 정보 조회
+    // 2차 캐시를 채우는 조회이므로 primary에서 읽음 (캐시 적중이면 DB 커넥션을 쓰지 않음, 읽기 전용 트랜잭션에 합류하면 캐시에 넣지 않음)
+    @Transactional
     public Photo getPhotoById(Long photoId) {
-        return photoRepository.findById(photoId)
+        return RequestTiming.time(RequestTiming.Category.DB, () -> photoRepository.findById(photoId))
                 .orElseThrow(() -> new PhotoNotFoundException("사진을 찾을 수 없습니다. ID: " + photoId));
     }
 
+    // 유사 사진 조회 (해밍 거리 maxDistance 이내)
+    @Transactional(readOnly = true)
+    public List<PhotoResponse> findSimilarPhotos(Long photoId, Integer maxDistance) {
+        Photo photo = getPhotoById(photoId);
+        if (photo.getPerceptualHash() == null) {
+            return List.of();
+        }
+
+        int distance = maxDistance == null
+                ? similarityMaxDistance
+                : Math.max(0, Math.min(maxDistance, similarityMaxDistance));
+        return findExistingPhotos(photoHashIndex.findSimilar(
+                photo.getPerceptualHash(), distance, photoId, similarityMaxResults))
+                .stream()
+                .map(PhotoResponse::from)
+                .toList();
+    }
+
+    private List<Long> findSimilarPhotoIds(Long perceptualHash, Long excludePhotoId) {
+        if (perceptualHash == null) {
+            return List.of();
+        }
+        return findExistingPhotos(photoHashIndex.findSimilar(perceptualHash, similarityMaxDistance, excludePhotoId, similarityMaxResults))
+                .stream()
+                .map(Photo::getPhotoId)
+                .toList();
+    }
+
+    // 인덱스의 거리 순서를 유지하며 DB에 있는 사진만 반환 (다른 노드에서 삭제되어 아직 인덱스에 남은 ID 제외)
+    private List<Photo> findExistingPhotos(List<PhotoHashIndex.Match> matches) {
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+        List<Long> matchIds = matches.stream().map(PhotoHashIndex.Match::photoId).toList();
+        Map<Long, Photo> photos = RequestTiming.time(RequestTiming.Category.DB, () -> photoRepository.findAllById(matchIds))
+                .stream()
+                .collect(Collectors.toMap(Photo::getPhotoId, Function.identity()));
+        return matches.stream()
+                .map(match -> photos.get(match.photoId()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     // 파일 유효성 검사
-    private void validateFile(MultipartFile file) {
+    static void validateFile(MultipartFile file) {
         if (file.isEmpty()) {
             throw new InvalidFileException("파일이 비어있습니다.");
         }
@@ -0,0 +1,306 @@
+package picto.com.photostore.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import picto.com.photostore.domain.PhotoResponse;
+import picto.com.photostore.domain.PhotoRow;
+import picto.com.photostore.domain.PhotoUploadRequest;
+import picto.com.photostore.exception.*;
+import picto.com.photostore.repository.reactive.ReactivePhotoRepository;
+import picto.com.photostore.repository.reactive.ReactiveUserRepository;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// reactive 프로필 전용 사진 서비스 (PhotoService와 같은 규칙을 논블로킹으로 수행)
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactivePhotoService {
+    private final ReactiveS3Service s3Service;
+    private final ReactivePhotoRepository photoRepository;
+    private final ReactiveUserRepository userRepository;
+    private final SessionSchedulerClient sessionSchedulerClient;
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator reactiveTransactionalOperator;
+    private final PerceptualHashService perceptualHashService;
+    private final PhotoHashIndex photoHashIndex;
+
+    @Value("${photo.similarity.max-distance:10}")
+    private int similarityMaxDistance;
+
+    @Value("${photo.similarity.max-results:20}")
+    private int similarityMaxResults;
+
+    // R2DBC 변경은 JPA 2차 캐시를 거치지 않으므로 이 노드의 poller도 무효화 로그를 적용하도록 별도 ID 사용
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 사진 업로드
+    public Mono<PhotoResponse> uploadPhoto(FilePart file, PhotoUploadRequest request) {
+        return Mono.defer(() -> {
+                    // 파일 유효성 검사 (크기는 업로드 스트림에서 검사)
+                    validateContentType(file);
+                    return userRepository.existsById(request.getUserId());
+                })
+                .flatMap(exists -> {
+                    if (!exists) {
+                        return Mono.error(new UserNotFoundException("사용자를 찾을 수 없습니다."));
+                    }
+                    // 프레임 true
+                    if (request.isFrameActive()) {
+                        return createTemporaryFramePhoto(request);
+                    }
+                    return createAndUploadPhoto(file, request);
+                })
+                .onErrorMap(e -> !(e instanceof PhotoUploadException || e instanceof ResourceBusyException),
+                        e -> new PhotoUploadException("사진 업로드 중 오류가 발생했습니다.", e))
+                .doOnError(e -> log.error("사진 업로드 실패", e));
+    }
+
+    // 임시 프레임 사진 생성
+    private Mono<PhotoResponse> createTemporaryFramePhoto(PhotoUploadRequest request) {
+        PhotoRow photo = PhotoRow.builder()
+                .userId(request.getUserId())
+                .photoPath("temp_path")
+                .s3FileName("temp_file")
+                .lat(0.0)
+                .lng(0.0)
+                .location("temp_location")
+                .tag(request.getTag())
+                .likes(0)
+                .views(0)
+                .frameActive(true)
+                .sharedActive(false)
+                .build();
+
+        return photoRepository.save(photo).map(PhotoResponse::from);
+    }
+
+    // frame false 사진 업로드
+    private Mono<PhotoResponse> createAndUploadPhoto(FilePart file, PhotoUploadRequest request) {
+        String fileName = s3Service.createFileName(file.filename());
+
+        // 중복 의심 사진 탐지를 위한 해시는 업로드하면서 계산
+        return uploadAndHash(fileName, file)
+                .flatMap(perceptualHash -> photoRepository.save(PhotoRow.builder()
+                                .userId(request.getUserId())
+                                .photoPath(s3Service.getFileUrl(fileName))
+                                .s3FileName(fileName)
+                                .lat(request.getLat())
+                                .lng(request.getLng())
+                                .location(request.getLocation())
+                                .tag(request.getTag())
+                                .likes(0)
+                                .views(0)
+                                .frameActive(false)
+                                .sharedActive(request.isSharedActive())
+                                .perceptualHash(perceptualHash.orElse(null))
+                                .build())
+                        // 다른 노드의 유사 사진 인덱스에도 반영
+                        .flatMap(saved -> publishInvalidation(saved.getPhotoId()).thenReturn(saved))
+                        // Shared true인 경우 (스케줄러 실패 시 저장도 롤백)
+                        .flatMap(saved -> request.isSharedActive()
+                                ? scheduleSession(saved).thenReturn(saved)
+                                : Mono.just(saved))
+                        .as(reactiveTransactionalOperator::transactional))
+                // 커밋된 사진만 인덱스에 추가
+                .doOnNext(saved -> photoHashIndex.add(saved.getPhotoId(), saved.getPerceptualHash()))
+                .flatMap(saved -> findSimilarPhotoIds(saved.getPerceptualHash(), saved.getPhotoId())
+                        .map(similarPhotoIds -> PhotoResponse.from(saved, similarPhotoIds)));
+    }
+
+    // 액자 사진 업로드
+    public Mono<PhotoResponse> uploadFramePhoto(Long photoId, FilePart file, PhotoUploadRequest request) {
+        return findPhoto(photoId, "프레임 사진을 찾을 수 없습니다.")
+                .flatMap(photo -> {
+                    // 액자 사진인지 확인
+                    if (!photo.isFrameActive()) {
+                        return Mono.error(new InvalidOperationException("프레임 사진이 아닙니다."));
+                    }
+                    validateContentType(file);
+
+                    Long previousHash = photo.getPerceptualHash();
+                    String fileName = s3Service.createFileName(file.filename());
+                    return uploadAndHash(fileName, file)
+                            .flatMap(perceptualHash -> {
+                                // 기존 사진 정보 업데이트
+                                photo.updatePhoto(
+                                        request.getLat(),
+                                        request.getLng(),
+                                        request.getLocation(),
+                                        request.getTag(),
+                                        s3Service.getFileUrl(fileName),
+                                        fileName,
+                                        false,
+                                        request.isSharedActive()
+                                );
+                                photo.updatePerceptualHash(perceptualHash.orElse(null));
+                                return saveAndInvalidate(photo);
+                            })
+                            .doOnNext(updated -> {
+                                photoHashIndex.remove(photoId);
+                                photoHashIndex.add(photoId, updated.getPerceptualHash());
+                            })
+                            .onErrorMap(e -> !(e instanceof ResourceBusyException),
+                                    e -> new PhotoUploadException("프레임 사진 업로드 중 문제가 발생했습니다.", e));
+                })
+                // Shared true인 경우 (스케줄러 실패는 업로드 실패로 보지 않음)
+                .flatMap(updated -> request.isSharedActive()
+                        ? scheduleSession(updated)
+                                .onErrorResume(e -> {
+                                    log.warn("Session scheduler is not available: {}", e.getMessage());
+                                    return Mono.empty();
+                                })
+                                .thenReturn(updated)
+                        : Mono.just(updated))
+                .flatMap(updated -> findSimilarPhotoIds(updated.getPerceptualHash(), photoId)
+                        .map(similarPhotoIds -> PhotoResponse.from(updated, similarPhotoIds)));
+    }
+
+    // 사진 공유 상태 업데이트
+    public Mono<PhotoResponse> updateShareStatus(Long photoId, boolean shared) {
+        return findPhoto(photoId, "사진을 찾을 수 없습니다.")
+                .flatMap(photo -> {
+                    // 액자 사진인 경우
+                    if (photo.isFrameActive()) {
+                        return Mono.error(new InvalidOperationException("프레임 상태의 사진은 공유 상태를 변경할 수 없습니다."));
+                    }
+                    photo.updatePhoto(
+                            photo.getLat(),
+                            photo.getLng(),
+                            photo.getLocation(),
+                            photo.getTag(),
+                            photo.getPhotoPath(),
+                            photo.getS3FileName(),
+                            photo.isFrameActive(),
+                            shared
+                    );
+                    // Shared true인 경우
+                    Mono<Void> schedule = shared ? scheduleSession(photo) : Mono.empty();
+                    return schedule.then(Mono.defer(() -> saveAndInvalidate(photo)));
+                })
+                .map(PhotoResponse::from);
+    }
+
+    // 사진 삭제
+    public Mono<Void> deletePhoto(Long photoId, Long userId) {
+        return findPhoto(photoId, "사진을 찾을 수 없습니다.")
+                .flatMap(photo -> {
+                    // 요청 사용자가 사진 소유자인지 확인
+                    if (!photo.getUserId().equals(userId)) {
+                        return Mono.error(new UnauthorizedException("해당 사진을 삭제할 권한이 없습니다."));
+                    }
+                    return s3Service.deleteFile(photo.getS3FileName())
+                            .then(photoRepository.delete(photo)
+                                    .then(publishInvalidation(photoId))
+                                    .as(reactiveTransactionalOperator::transactional))
+                            .then(Mono.<Void>fromRunnable(() -> photoHashIndex.remove(photoId)))
+                            .onErrorMap(e -> !(e instanceof ResourceBusyException),
+                                    e -> new FileDeleteException("사진 삭제 중 오류가 발생했습니다.", e))
+                            .doOnError(e -> log.error("사진 삭제 중 오류 발생", e));
+                });
+    }
+
+    // 사진 ID 사진 정보 조회
+    public Mono<PhotoRow> getPhotoById(Long photoId) {
+        return findPhoto(photoId, "사진을 찾을 수 없습니다. ID: " + photoId);
+    }
+
+    private Mono<PhotoRow> findPhoto(Long photoId, String notFoundMessage) {
+        return photoRepository.findById(photoId)
+                .switchIfEmpty(Mono.error(() -> new PhotoNotFoundException(notFoundMessage)));
+    }
+
+    private Mono<PhotoRow> saveAndInvalidate(PhotoRow photo) {
+        return photoRepository.save(photo)
+                .flatMap(saved -> publishInvalidation(saved.getPhotoId()).thenReturn(saved))
+                .as(reactiveTransactionalOperator::transactional);
+    }
+
+    // 다른 노드(와 이 노드의 JPA 2차 캐시)를 위한 무효화 로그 기록
+    private Mono<Void> publishInvalidation(Long photoId) {
+        return databaseClient.sql("INSERT INTO photo_schema.CacheInvalidation "
+                        + "(cache_name, cache_key, node_id, created_datetime) "
+                        + "VALUES (:cacheName, :cacheKey, :nodeId, :createdDatetime)")
+                .bind("cacheName", CacheInvalidationService.PHOTO)
+                .bind("cacheKey", photoId)
+                .bind("nodeId", nodeId)
+                .bind("createdDatetime", System.currentTimeMillis())
+                .then();
+    }
+
+    // S3로 보내는 파트를 그대로 디코더에 넘겨 업로드와 함께 해시 계산 (파트를 모아두지 않음, 디코딩 불가 포맷이면 빈 값)
+    private Mono<Optional<Long>> uploadAndHash(String fileName, FilePart file) {
+        return Mono.defer(() -> {
+            PartInputStream hashInput = new PartInputStream();
+            // 이미지 디코딩은 이벤트 루프 밖에서 수행, 실패해도 업로드는 계속
+            Mono<Optional<Long>> hash = Mono.fromCallable(() -> Optional.ofNullable(perceptualHashService.computeHash(hashInput, contentType(file))))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .onErrorResume(e -> {
+                        log.warn("이미지 해시 계산 실패: {}", e.getMessage());
+                        return Mono.just(Optional.empty());
+                    })
+                    .doFinally(signal -> hashInput.close());
+            // 업로드가 실패해도 디코더가 기다리지 않도록 스트림 종료
+            Mono<Boolean> upload = s3Service.uploadFile(fileName, contentType(file), file.content(), hashInput::add)
+                    .doFinally(signal -> hashInput.finish())
+                    .thenReturn(true);
+            return Mono.zip(hash, upload).map(Tuple2::getT1);
+        });
+    }
+
+    // 인덱스의 유사 사진 중 DB에 있는 사진만 거리 순서대로 반환
+    private Mono<List<Long>> findSimilarPhotoIds(Long perceptualHash, Long excludePhotoId) {
+        if (perceptualHash == null) {
+            return Mono.just(List.of());
+        }
+        List<Long> candidateIds = photoHashIndex.findSimilar(perceptualHash, similarityMaxDistance, excludePhotoId, similarityMaxResults)
+                .stream()
+                .map(PhotoHashIndex.Match::photoId)
+                .toList();
+        if (candidateIds.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        return photoRepository.findAllById(candidateIds)
+                .map(PhotoRow::getPhotoId)
+                .collect(Collectors.toSet())
+                .map(existingIds -> candidateIds.stream().filter(existingIds::contains).toList());
+    }
+
+    // 기존 RestTemplate 클라이언트를 블로킹 허용 스케줄러에서 호출
+    private Mono<Void> scheduleSession(PhotoRow photo) {
+        return Mono.<Void>fromRunnable(() -> sessionSchedulerClient.scheduleSession(
+                        photo.getPhotoId(),
+                        photo.getUserId(),
+                        photo.getLng(),
+                        photo.getLat()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorMap(e -> !(e instanceof SessionSchedulerException || e instanceof ResourceBusyException),
+                        e -> new SessionSchedulerException("세션 스케줄링 실패", e));
+    }
+
+    private void validateContentType(FilePart file) {
+        String contentType = contentType(file);
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new InvalidFileException("이미지 파일만 업로드 가능합니다.");
+        }
+    }
+
+    private static String contentType(FilePart file) {
+        MediaType contentType = file.headers().getContentType();
+        return contentType == null ? null : contentType.toString();
+    }
+}
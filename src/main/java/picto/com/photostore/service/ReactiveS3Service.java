@@ -0,0 +1,183 @@
+package picto.com.photostore.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Service;
+import picto.com.photostore.exception.FileDeleteException;
+import picto.com.photostore.exception.FileDownloadException;
+import picto.com.photostore.exception.FileUploadException;
+import picto.com.photostore.exception.InvalidFileException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// reactive 프로필 전용 S3 서비스 (요청/응답 본문을 DataBuffer 스트림으로 전달)
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveS3Service {
+    // S3 멀티파트 최소 파트 크기
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
+
+    private final S3AsyncClient s3AsyncClient;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    // 스트림을 5MB 파트로 나눠 멀티파트 업로드 (파트는 보내기 전에 onPart로 넘기고, 보낸 뒤에는 붙잡지 않음)
+    public Mono<Void> uploadFile(String fileName, String contentType, Flux<DataBuffer> content, Consumer<ByteBuffer> onPart) {
+        CreateMultipartUploadRequest createRequest = CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(fileName)
+                .contentType(contentType)
+                .build();
+
+        return Mono.fromFuture(() -> s3AsyncClient.createMultipartUpload(createRequest))
+                .flatMap(created -> toParts(content)
+                        .doOnNext(onPart)
+                        .index()
+                        .concatMap(part -> uploadPart(fileName, created.uploadId(), part.getT1().intValue() + 1, part.getT2()), 1)
+                        .collectList()
+                        .flatMap(completed -> completeUpload(fileName, created.uploadId(), completed))
+                        .onErrorResume(e -> abortUpload(fileName, created.uploadId()).then(Mono.error(e))))
+                .onErrorMap(e -> !(e instanceof InvalidFileException),
+                        e -> new FileUploadException("파일 업로드 중 오류가 발생했습니다.", e));
+    }
+
+    // 크기 초과로 중단되면 bufferUntil이 모아둔 버퍼는 discard 훅에서 반납
+    static Flux<ByteBuffer> toParts(Flux<DataBuffer> content) {
+        return Flux.defer(() -> {
+            AtomicLong total = new AtomicLong();
+            AtomicLong pending = new AtomicLong();
+            return content
+                    .<DataBuffer>handle((buffer, sink) -> {
+                        if (total.addAndGet(buffer.readableByteCount()) > MAX_FILE_SIZE) {
+                            DataBufferUtils.release(buffer);
+                            sink.error(new InvalidFileException("파일 크기는 10MB를 초과할 수 없습니다."));
+                            return;
+                        }
+                        sink.next(buffer);
+                    })
+                    .bufferUntil(buffer -> {
+                        if (pending.addAndGet(buffer.readableByteCount()) >= PART_SIZE) {
+                            pending.set(0);
+                            return true;
+                        }
+                        return false;
+                    })
+                    .map(ReactiveS3Service::toByteBuffer)
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                    .switchIfEmpty(Mono.error(new InvalidFileException("파일이 비어있습니다.")));
+        });
+    }
+
+    private static ByteBuffer toByteBuffer(List<DataBuffer> buffers) {
+        int size = buffers.stream().mapToInt(DataBuffer::readableByteCount).sum();
+        ByteBuffer part = ByteBuffer.allocate(size);
+        for (DataBuffer buffer : buffers) {
+            int length = buffer.readableByteCount();
+            buffer.toByteBuffer(buffer.readPosition(), part, part.position(), length);
+            part.position(part.position() + length);
+            DataBufferUtils.release(buffer);
+        }
+        return part.flip();
+    }
+
+    private Mono<CompletedPart> uploadPart(String fileName, String uploadId, int partNumber, ByteBuffer part) {
+        UploadPartRequest request = UploadPartRequest.builder()
+                .bucket(bucket)
+                .key(fileName)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) part.remaining())
+                .build();
+
+        // fromByteBuffer는 파트를 한 번 더 복사하므로 복사 없이 남은 바이트를 그대로 전송
+        return Mono.fromFuture(() -> s3AsyncClient.uploadPart(request, AsyncRequestBody.fromRemainingByteBufferUnsafe(part)))
+                .map(response -> CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build());
+    }
+
+    private Mono<Void> completeUpload(String fileName, String uploadId, List<CompletedPart> parts) {
+        CompleteMultipartUploadRequest request = CompleteMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(fileName)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                .build();
+
+        return Mono.fromFuture(() -> s3AsyncClient.completeMultipartUpload(request)).then();
+    }
+
+    private Mono<Void> abortUpload(String fileName, String uploadId) {
+        AbortMultipartUploadRequest request = AbortMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(fileName)
+                .uploadId(uploadId)
+                .build();
+
+        return Mono.fromFuture(() -> s3AsyncClient.abortMultipartUpload(request))
+                .doOnError(e -> log.warn("멀티파트 업로드 취소 실패: {}", e.getMessage()))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    // 사진 조회 (S3 응답 본문을 그대로 스트리밍)
+    public Mono<S3Download> downloadFile(String fileName) {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(fileName)
+                .build();
+
+        return Mono.fromFuture(() -> s3AsyncClient.getObject(request, AsyncResponseTransformer.toPublisher()))
+                .map(publisher -> new S3Download(
+                        publisher.response().contentLength(),
+                        Flux.from(publisher).map(DefaultDataBufferFactory.sharedInstance::wrap)))
+                .onErrorMap(e -> new FileDownloadException("S3에서 파일 다운로드 중 오류가 발생했습니다.", e));
+    }
+
+    // S3에 파일 삭제
+    public Mono<Void> deleteFile(String fileName) {
+        DeleteObjectRequest request = DeleteObjectRequest.builder()
+                .bucket(bucket)
+                .key(fileName)
+                .build();
+
+        return Mono.fromFuture(() -> s3AsyncClient.deleteObject(request))
+                .onErrorMap(e -> new FileDeleteException("파일 삭제 중 오류가 발생했습니다.", e))
+                .then();
+    }
+
+    // 업로드된 파일의 URL 반환
+    public String getFileUrl(String fileName) {
+        return s3AsyncClient.utilities()
+                .getUrl(GetUrlRequest.builder().bucket(bucket).key(fileName).build())
+                .toExternalForm();
+    }
+
+    // 업로드 파일의 고유 이름 생성
+    public String createFileName(String originalFileName) {
+        return "picto-photos/" + UUID.randomUUID() + "_" + originalFileName;
+    }
+
+    public record S3Download(long contentLength, Flux<DataBuffer> content) {
+    }
+}
@@ -0,0 +1,98 @@
+package picto.com.photostore.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// 요청 단위 구간별 소요 시간 누적 (Server-Timing 헤더, 느린 요청 기록용)
+// 요청 스레드에 묶인 배열에 더하기만 하므로 동기화/할당 없이 기록한다. 요청 밖(스케줄 작업 등)에서는 무시된다.
+public final class RequestTiming {
+    public enum Category {
+        DB("db"),
+        S3("s3"),
+        IMAGE("image"),
+        SCHEDULER("scheduler");
+
+        private final String metricName;
+
+        Category(String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String metricName() {
+            return metricName;
+        }
+    }
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final long[] nanos = new long[CATEGORIES.length];
+    private final int[] counts = new int[CATEGORIES.length];
+
+    private RequestTiming() {
+    }
+
+    public static RequestTiming start() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static void record(Category category, long elapsedNanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.nanos[category.ordinal()] += elapsedNanos;
+            timing.counts[category.ordinal()]++;
+        }
+    }
+
+    public static <T> T time(Category category, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(category, System.nanoTime() - start);
+        }
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    // Server-Timing 헤더 값 (예: db;dur=12.4, s3;dur=80.1, total;dur=97.0)
+    public String toServerTimingHeader() {
+        StringBuilder header = new StringBuilder();
+        for (Category category : CATEGORIES) {
+            if (counts[category.ordinal()] > 0) {
+                header.append(category.metricName())
+                        .append(";dur=").append(toMillis(nanos[category.ordinal()]))
+                        .append(", ");
+            }
+        }
+        return header.append("total;dur=").append(toMillis(elapsedNanos())).toString();
+    }
+
+    // 구간별 소요 시간(ms)과 호출 횟수
+    public Map<String, Object> breakdown() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (Category category : CATEGORIES) {
+            if (counts[category.ordinal()] > 0) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("durationMs", toMillis(nanos[category.ordinal()]));
+                entry.put("count", counts[category.ordinal()]);
+                result.put(category.metricName(), entry);
+            }
+        }
+        return result;
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 100_000.0) / 10.0;
+    }
+}
@@ -0,0 +1,254 @@
+package picto.com.photostore.service;
+
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import picto.com.photostore.domain.Photo;
+import picto.com.photostore.domain.ReconciliationCheckpoint;
+import picto.com.photostore.repository.PhotoRepository;
+import picto.com.photostore.repository.ReconciliationCheckpointRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+// S3/DB 정합성 검사 + 고아 객체 정리
+// S3 목록 한 페이지와 같은 키 구간의 DB 키 스트림을 정렬 순서대로 병합하므로 메모리는 페이지 크기만큼만 사용한다.
+// 페이지마다 진행 위치를 DB에 저장해 재기동/노드 변경 후 이어서 진행하고, 페이지 사이에 쉬어 S3/DB 부하를 제한한다.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class S3ReconciliationService {
+    private static final String JOB_NAME = "s3-photo-reconciliation";
+    // PhotoService.createTemporaryFramePhoto가 만드는 임시 키
+    private static final String TEMP_FILE_NAME = "temp_file";
+
+    private final S3Service s3Service;
+    private final PhotoRepository photoRepository;
+    private final ReconciliationCheckpointRepository checkpointRepository;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final PhotoMetrics photoMetrics;
+    private final TransactionTemplate transactionTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${photo.reconciliation.enabled:true}")
+    private boolean enabled;
+
+    // true면 검사 결과만 기록하고 삭제하지 않음
+    @Value("${photo.reconciliation.dry-run:true}")
+    private boolean dryRun;
+
+    @Value("${photo.reconciliation.page-size:1000}")
+    private int pageSize;
+
+    @Value("${photo.reconciliation.max-pages-per-run:100}")
+    private int maxPagesPerRun;
+
+    @Value("${photo.reconciliation.page-delay:200ms}")
+    private Duration pageDelay;
+
+    // 업로드 직후(DB 저장 전) 객체를 고아로 오인하지 않도록 이 시간보다 오래된 객체만 삭제
+    @Value("${photo.reconciliation.orphan-grace:24h}")
+    private Duration orphanGrace;
+
+    @Value("${photo.reconciliation.placeholder-ttl:7d}")
+    private Duration placeholderTtl;
+
+    @Value("${photo.reconciliation.lease:10m}")
+    private Duration lease;
+
+    @Scheduled(initialDelayString = "${photo.reconciliation.initial-delay-ms:60000}",
+            fixedDelayString = "${photo.reconciliation.interval-ms:600000}")
+    public void reconcile() {
+        if (!enabled || !acquireLease()) {
+            return;
+        }
+        try {
+            reconcilePages();
+            expirePlaceholders();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("S3 정합성 검사 실패", e);
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> checkpointRepository.releaseLease(JOB_NAME, nodeId));
+        }
+    }
+
+    private void reconcilePages() throws InterruptedException {
+        String lastKey = transactionTemplate.execute(status -> checkpointRepository.findById(JOB_NAME)
+                .map(ReconciliationCheckpoint::getLastKey)
+                .orElse(null));
+        if (lastKey == null) {
+            log.info("S3 정합성 검사 시작 (dryRun={})", dryRun);
+        }
+
+        for (int page = 0; page < maxPagesPerRun; page++) {
+            ListObjectsV2Result listing = s3Service.listFiles(lastKey, pageSize);
+            List<S3ObjectSummary> objects = listing.getObjectSummaries();
+            String after = lastKey == null ? S3Service.KEY_PREFIX : lastKey;
+
+            if (!objects.isEmpty()) {
+                String upTo = objects.get(objects.size() - 1).getKey();
+                List<String> orphans = findOrphans(after, upTo, objects);
+                if (!orphans.isEmpty()) {
+                    int deleted = dryRun ? 0 : s3Service.deleteFiles(orphans);
+                    photoMetrics.recordReconciliation("orphan_found", orphans.size());
+                    photoMetrics.recordReconciliation("orphan_deleted", deleted);
+                    log.info("고아 S3 객체 {}건 발견, {}건 삭제 (마지막 키: {})", orphans.size(), deleted, upTo);
+                }
+                after = upTo;
+            }
+
+            if (!listing.isTruncated()) {
+                // S3 목록 끝 이후의 DB 키도 S3에 없는 사진
+                String tailAfter = after;
+                long missing = transactionTemplate.execute(status ->
+                        photoRepository.countS3FileNamesAfter(S3Service.KEY_PREFIX, tailAfter));
+                recordMissing(missing);
+                saveProgress(null);
+                log.info("S3 정합성 검사 완료");
+                return;
+            }
+
+            lastKey = after;
+            if (!saveProgress(lastKey)) {
+                log.warn("S3 정합성 검사 임대를 잃어 중단 (마지막 키: {})", lastKey);
+                return;
+            }
+            Thread.sleep(pageDelay.toMillis());
+        }
+    }
+
+    // S3 키와 (after, upTo] 구간 DB 키를 병합해 DB에 없는 S3 키 반환
+    private List<String> findOrphans(String after, String upTo, List<S3ObjectSummary> objects) {
+        long graceBefore = System.currentTimeMillis() - orphanGrace.toMillis();
+        return transactionTemplate.execute(status -> {
+            List<String> orphans = new ArrayList<>();
+            long missing = 0;
+            long recent = 0;
+            try (Stream<String> dbKeys = photoRepository.streamS3FileNames(S3Service.KEY_PREFIX, after, upTo)) {
+                Iterator<String> iterator = dbKeys.iterator();
+                String dbKey = next(iterator);
+                for (S3ObjectSummary object : objects) {
+                    String key = object.getKey();
+                    while (dbKey != null && compareKeys(dbKey, key) < 0) {
+                        missing++;
+                        dbKey = next(iterator);
+                    }
+                    if (dbKey != null && compareKeys(dbKey, key) == 0) {
+                        // 같은 키를 가진 행이 여러 개일 수 있음
+                        while (dbKey != null && compareKeys(dbKey, key) == 0) {
+                            dbKey = next(iterator);
+                        }
+                        continue;
+                    }
+                    if (object.getLastModified().getTime() < graceBefore) {
+                        orphans.add(key);
+                    } else {
+                        recent++;
+                    }
+                }
+                while (dbKey != null) {
+                    missing++;
+                    dbKey = next(iterator);
+                }
+            }
+            recordMissing(missing);
+            photoMetrics.recordReconciliation("orphan_recent", recent);
+            return orphans;
+        });
+    }
+
+    // S3 객체가 없는 사진은 복구할 수 없으므로 삭제하지 않고 기록만 함
+    private void recordMissing(long missing) {
+        if (missing > 0) {
+            photoMetrics.recordReconciliation("missing_in_s3", missing);
+            log.warn("S3 객체가 없는 사진 {}건 발견", missing);
+        }
+    }
+
+    // 오래된 액자 임시 사진 삭제 (한 번에 500건, 배치 사이 대기)
+    // dry-run도 끝까지 넘겨 가며 세므로 placeholder_found가 삭제를 켰을 때 지울 전체 건수와 같음
+    private void expirePlaceholders() throws InterruptedException {
+        long before = System.currentTimeMillis() - placeholderTtl.toMillis();
+        long afterPhotoId = 0;
+        for (int batch = 0; batch < maxPagesPerRun; batch++) {
+            List<Photo> placeholders = photoRepository
+                    .findTop500ByFrameActiveTrueAndS3FileNameAndRegisterDatetimeLessThanAndPhotoIdGreaterThanOrderByPhotoIdAsc(
+                            TEMP_FILE_NAME, before, afterPhotoId);
+            if (placeholders.isEmpty()) {
+                return;
+            }
+            photoMetrics.recordReconciliation("placeholder_found", placeholders.size());
+            afterPhotoId = placeholders.get(placeholders.size() - 1).getPhotoId();
+            if (dryRun) {
+                log.info("만료된 액자 임시 사진 {}건 발견 (마지막 ID: {})", placeholders.size(), afterPhotoId);
+            } else {
+                List<Long> photoIds = placeholders.stream().map(Photo::getPhotoId).toList();
+                transactionTemplate.executeWithoutResult(status -> {
+                    photoRepository.deleteAllByIdInBatch(photoIds);
+                    photoIds.forEach(cacheInvalidationService::invalidatePhoto);
+                });
+                photoMetrics.recordReconciliation("placeholder_expired", placeholders.size());
+                log.info("만료된 액자 임시 사진 {}건 삭제", placeholders.size());
+            }
+            if (placeholders.size() < 500) {
+                return;
+            }
+            Thread.sleep(pageDelay.toMillis());
+        }
+    }
+
+    private boolean acquireLease() {
+        long now = System.currentTimeMillis();
+        if (!checkpointRepository.existsById(JOB_NAME)) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        checkpointRepository.save(new ReconciliationCheckpoint(JOB_NAME)));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 먼저 생성
+            }
+        }
+        Integer acquired = transactionTemplate.execute(status ->
+                checkpointRepository.acquireLease(JOB_NAME, nodeId, now + lease.toMillis(), now));
+        return acquired != null && acquired > 0;
+    }
+
+    private boolean saveProgress(String lastKey) {
+        long now = System.currentTimeMillis();
+        Integer updated = transactionTemplate.execute(status ->
+                checkpointRepository.saveProgress(JOB_NAME, nodeId, lastKey, now + lease.toMillis(), now));
+        return updated != null && updated > 0;
+    }
+
+    private static String next(Iterator<String> iterator) {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    // S3 목록 순서(UTF-8 바이트 순 = 코드 포인트 순)로 비교 (String.compareTo는 UTF-16 단위라 보조 문자에서 다름)
+    static int compareKeys(String a, String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            int ca = a.codePointAt(i);
+            int cb = b.codePointAt(j);
+            if (ca != cb) {
+                return Integer.compare(ca, cb);
+            }
+            i += Character.charCount(ca);
+            j += Character.charCount(cb);
+        }
+        return Integer.compare(a.length() - i, b.length() - j);
+    }
+}
@@ -4,7 +4,7 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.util.IOUtils;
 import picto.com.photostore.exception.FileDeleteException;
-import picto.com.photostore.exception.FileUploadException;;
+import picto.com.photostore.exception.FileUploadException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,9 +15,16 @@ import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.AmazonServiceException;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import picto.com.photostore.exception.FileDownloadException;
@@ -26,7 +33,14 @@ import picto.com.photostore.exception.FileDownloadException;
 @RequiredArgsConstructor
 @Slf4j
 public class S3Service {
+    // 업로드 사진 키 접두사
+    public static final String KEY_PREFIX = "picto-photos/";
+    // DeleteObjects 한 번에 지울 수 있는 최대 키 수
+    public static final int MAX_BATCH_KEYS = 1000;
+
     private final AmazonS3 s3client;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final PhotoMetrics photoMetrics;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
@@ -51,7 +65,7 @@ public class S3Service {
             );
 
             // S3에 파일 업로드 요청
-            s3client.putObject(putObjectRequest);
+            callS3("put", () -> s3client.putObject(putObjectRequest), result -> file.getSize());
 
             // 업로드된 파일 이름 반환
             return fileName;
@@ -62,8 +76,12 @@ public class S3Service {
         }
     }
 
-    // 사진 조회
+    // 사진 조회 (스트림을 다 읽을 때까지 S3 커넥션을 점유하므로 전체를 제한)
     public byte[] downloadFile(String fileName) {
+        return callS3("get", () -> readFile(fileName), bytes -> bytes.length);
+    }
+
+    private byte[] readFile(String fileName) {
         try {
             // S3 파일 객체 가져오기
             S3Object s3Object = s3client.getObject(new GetObjectRequest(bucket, fileName));
@@ -94,7 +112,10 @@ public class S3Service {
     public void deleteFile(String fileName) {
         try {
             // S3에 파일 삭제 요청
-            s3client.deleteObject(bucket, fileName);
+            callS3("delete", () -> {
+                s3client.deleteObject(bucket, fileName);
+                return null;
+            }, result -> 0);
 
         } catch (AmazonServiceException e) {
             log.error("파일 삭제 실패: {}", e.getMessage());
@@ -102,6 +123,52 @@ public class S3Service {
         }
     }
 
+    // 사진 키 목록 한 페이지 조회 (키 오름차순, startAfter 이후부터)
+    public ListObjectsV2Result listFiles(String startAfter, int maxKeys) {
+        ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(bucket)
+                .withPrefix(KEY_PREFIX)
+                .withStartAfter(startAfter)
+                .withMaxKeys(Math.min(maxKeys, MAX_BATCH_KEYS));
+        return callS3("list", () -> s3client.listObjectsV2(request), result -> 0);
+    }
+
+    // 여러 파일 일괄 삭제 (최대 1000개), 실제 삭제된 수 반환
+    public int deleteFiles(List<String> fileNames) {
+        if (fileNames.isEmpty()) {
+            return 0;
+        }
+        DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
+                .withKeys(fileNames.toArray(String[]::new))
+                .withQuiet(true);
+        try {
+            callS3("delete_batch", () -> s3client.deleteObjects(request), result -> 0);
+            return fileNames.size();
+        } catch (MultiObjectDeleteException e) {
+            // 일부만 실패한 경우 실패한 키만 기록
+            e.getErrors().forEach(error -> log.warn("파일 삭제 실패: {} ({})", error.getKey(), error.getMessage()));
+            return fileNames.size() - e.getErrors().size();
+        } catch (AmazonServiceException e) {
+            log.error("파일 일괄 삭제 실패: {}", e.getMessage());
+            throw new FileDeleteException("파일 삭제 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // 동시 호출 제한 + S3 작업 지연/바이트 기록 (permit 대기 시간은 제외)
+    private <T> T callS3(String operation, Supplier<T> action, ToLongFunction<T> bytes) {
+        return concurrencyLimiter.call(ConcurrencyLimiter.Resource.S3, () -> {
+            long start = System.nanoTime();
+            try {
+                T result = action.get();
+                photoMetrics.recordS3(operation, PhotoMetrics.SUCCESS, System.nanoTime() - start, bytes.applyAsLong(result));
+                return result;
+            } catch (RuntimeException e) {
+                photoMetrics.recordS3(operation, PhotoMetrics.ERROR, System.nanoTime() - start, 0);
+                throw e;
+            }
+        });
+    }
+
     // 업로드된 파일의 URL 반환
     public String getFileUrl(String fileName) {
         return s3client.getUrl(bucket, fileName).toString();
@@ -109,6 +176,6 @@ public class S3Service {
 
     // 업로드 파일의 고유 이름 생성
     private String createFileName(String originalFileName) {
-        return "picto-photos/" + UUID.randomUUID().toString() + "_" + originalFileName;
+        return KEY_PREFIX + UUID.randomUUID().toString() + "_" + originalFileName;
     }
 }
@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
+import picto.com.photostore.exception.ResourceBusyException;
 import picto.com.photostore.exception.SessionSchedulerException;
 
 @Component
@@ -15,6 +16,8 @@ import picto.com.photostore.exception.SessionSchedulerException;
 @RequiredArgsConstructor
 public class SessionSchedulerClient {
     private final RestTemplate restTemplate;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final PhotoMetrics photoMetrics;
 
     @Value("${session.scheduler.base-url}")
     private String baseUrl;
@@ -26,6 +29,7 @@ public class SessionSchedulerClient {
         // 스케줄러가 비활성화
         if (!schedulerEnabled) {
             log.warn("세션 스케줄러가 비활성화 상태입니다. 사진 ID: {}, 사용자 ID: {}에 대한 스케줄 요청을 건너뜁니다.", photoId, userId);
+            photoMetrics.recordSchedulerSkipped("disabled");
             return;
         }
 
@@ -41,14 +45,32 @@ public class SessionSchedulerClient {
 
         try {
             log.info("세션 스케줄러 요청 전송: {}", request);
-            ResponseEntity<Void> response = restTemplate.postForEntity(url, request, Void.class);
+            ResponseEntity<Void> response = concurrencyLimiter.call(ConcurrencyLimiter.Resource.SCHEDULER,
+                    () -> post(url, request));
             log.info("세션 스케줄러 응답 상태: {}", response.getStatusCode());
+        } catch (ResourceBusyException e) {
+            // 503 + Retry-After로 응답하도록 그대로 전달
+            photoMetrics.recordSchedulerSkipped("busy");
+            throw e;
         } catch (Exception e) {
             log.error("세션 스케줄링 실패", e);
             throw new SessionSchedulerException("세션 스케줄링 실패", e);
         }
     }
 
+    // permit을 얻은 뒤의 호출 시간만 기록 (S3Service.callS3와 동일)
+    private ResponseEntity<Void> post(String url, SessionSchedulerRequest request) {
+        long start = System.nanoTime();
+        try {
+            ResponseEntity<Void> response = restTemplate.postForEntity(url, request, Void.class);
+            photoMetrics.recordScheduler(PhotoMetrics.SUCCESS, System.nanoTime() - start);
+            return response;
+        } catch (RuntimeException e) {
+            photoMetrics.recordScheduler(PhotoMetrics.ERROR, System.nanoTime() - start);
+            throw e;
+        }
+    }
+
     @Data
     @AllArgsConstructor
     private static class SessionSchedulerRequest {
@@ -0,0 +1,77 @@
+package picto.com.photostore.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 느린 요청 샘플 보관 (고정 크기 링 버퍼, 가장 오래된 기록부터 덮어씀)
+@Component
+public class SlowRequestLog {
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final AtomicReferenceArray<SlowRequest> buffer;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SlowRequestLog(@Value("${photo.tracing.slow-request-threshold-ms:1000}") long thresholdMillis,
+                          @Value("${photo.tracing.sample-rate:1.0}") double sampleRate,
+                          @Value("${photo.tracing.buffer-size:256}") int bufferSize) {
+        this.thresholdNanos = thresholdMillis * 1_000_000;
+        this.sampleRate = sampleRate;
+        this.buffer = new AtomicReferenceArray<>(Math.max(1, bufferSize));
+    }
+
+    // 임계값을 넘은 요청 중 sample-rate 비율만 기록
+    public void offer(String method, String path, int status, RequestTiming timing) {
+        long elapsedNanos = timing.elapsedNanos();
+        if (elapsedNanos < thresholdNanos) {
+            return;
+        }
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        long id = sequence.getAndIncrement();
+        buffer.set((int) (id % buffer.length()), new SlowRequest(
+                id,
+                System.currentTimeMillis(),
+                method,
+                path,
+                status,
+                elapsedNanos / 1_000_000,
+                timing.breakdown(),
+                Thread.currentThread().isVirtual()));
+    }
+
+    // 최신 기록부터 반환
+    public List<SlowRequest> snapshot() {
+        List<SlowRequest> result = new ArrayList<>(buffer.length());
+        long last = sequence.get() - 1;
+        for (long id = last; id >= 0 && id > last - buffer.length(); id--) {
+            SlowRequest request = buffer.get((int) (id % buffer.length()));
+            // 기록 중 덮어쓰인 칸은 건너뜀
+            if (request != null && request.id() == id) {
+                result.add(request);
+            }
+        }
+        return result;
+    }
+
+    public long thresholdMillis() {
+        return thresholdNanos / 1_000_000;
+    }
+
+    public record SlowRequest(long id,
+                              long timestamp,
+                              String method,
+                              String path,
+                              int status,
+                              long durationMs,
+                              Map<String, Object> breakdown,
+                              boolean virtualThread) {
+    }
+}
@@ -0,0 +1,38 @@
+package picto.com.photostore.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 토큰 버킷 (GCRA 방식: 다음 토큰의 이론적 도착 시각 하나만 CAS로 갱신하므로 락/타이머 불필요)
+final class TokenBucket {
+    // 토큰 1개가 채워지는 간격
+    private final long intervalNanos;
+    // 버킷이 가득 찬 상태에서 연속으로 허용되는 구간 (interval * capacity)
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long intervalNanos, int capacity, long nowNanos) {
+        this.intervalNanos = intervalNanos;
+        this.burstNanos = intervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    // 허용되면 0, 거절되면 다음 토큰까지 남은 시간(ns)
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long waitNanos = next - nowNanos - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // 받은 토큰을 처리하지 못했을 때 반납
+    void refund() {
+        theoreticalArrival.addAndGet(-intervalNanos);
+    }
+}
@@ -0,0 +1,72 @@
+package picto.com.photostore;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import picto.com.photostore.fixture.MultipartBody;
+import picto.com.photostore.fixture.PhotoStoreFixture;
+import picto.com.photostore.fixture.SampleImages;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로드 밸런서 뒤의 업로드 한도: 신뢰할 프록시가 보낸 X-Forwarded-For 클라이언트마다 버킷이 나뉘고, 그 외 주소의 헤더는 무시되는지 확인
+class ForwardedHeadersTests {
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final byte[] image = SampleImages.jpeg(64, 64, 1);
+
+    @Test
+    void clientsBehindTrustedProxyHaveSeparateUploadLimits() throws Exception {
+        // 테스트 요청은 127.0.0.1(로드 밸런서 역할)에서 들어옴
+        try (ConfigurableApplicationContext context = start("forwarded-trusted",
+                "--server.tomcat.remoteip.internal-proxies=127\\.0\\.0\\.1")) {
+            String port = context.getEnvironment().getProperty("local.server.port");
+
+            assertThat(upload(port, "203.0.113.1").statusCode()).isEqualTo(200);
+            assertThat(upload(port, "203.0.113.1").statusCode()).isEqualTo(429);
+            // 같은 프록시 주소라도 다른 클라이언트는 자기 버킷 사용
+            assertThat(upload(port, "203.0.113.2").statusCode()).isEqualTo(200);
+            // 클라이언트가 앞에 넣은 값이 아니라 프록시가 덧붙인 마지막 주소 기준
+            assertThat(upload(port, "198.51.100.7, 203.0.113.1").statusCode()).isEqualTo(429);
+        }
+    }
+
+    @Test
+    void forwardedHeadersFromUntrustedAddressAreIgnored() throws Exception {
+        // 기본 신뢰 프록시 대역(172.31.0.0/16)에 127.0.0.1은 없음
+        try (ConfigurableApplicationContext context = start("forwarded-untrusted")) {
+            String port = context.getEnvironment().getProperty("local.server.port");
+
+            assertThat(upload(port, "203.0.113.1").statusCode()).isEqualTo(200);
+            // 헤더를 바꿔 보내도 같은 접속 주소의 버킷
+            assertThat(upload(port, "203.0.113.2").statusCode()).isEqualTo(429);
+        }
+    }
+
+    private HttpResponse<String> upload(String port, String forwardedFor) throws Exception {
+        MultipartBody body = new MultipartBody()
+                .file("file", "photo.jpg", "image/jpeg", image)
+                .json("request", "{\"userId\":1}");
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/photo-store/photos"))
+                .header("Content-Type", body.contentType())
+                .header("X-Forwarded-For", forwardedFor)
+                .POST(body.publisher())
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static ConfigurableApplicationContext start(String databaseName, String... args) {
+        String[] allArgs = new String[args.length + 4];
+        allArgs[0] = "--server.port=0";
+        allArgs[1] = "--spring.datasource.url=" + PhotoStoreFixture.h2Url(databaseName);
+        // 클라이언트마다 업로드 1건 (다음 토큰까지 1분)
+        allArgs[2] = "--photo.admission.user-upload-burst=1";
+        allArgs[3] = "--photo.admission.user-uploads-per-minute=1";
+        System.arraycopy(args, 0, allArgs, 4, args.length);
+        return PhotoStoreFixture.start(WebApplicationType.SERVLET, allArgs);
+    }
+}
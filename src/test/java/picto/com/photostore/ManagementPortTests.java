@@ -0,0 +1,64 @@
+package picto.com.photostore;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import picto.com.photostore.fixture.PhotoStoreFixture;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// actuator(운영 조회 엔드포인트 포함)는 관리 포트에서만 응답하고 서비스 포트에는 노출되지 않는지 확인
+class ManagementPortTests {
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void prometheusIsServedOnlyOnManagementPort() throws Exception {
+        try (ConfigurableApplicationContext context = PhotoStoreFixture.start(WebApplicationType.SERVLET,
+                "--server.port=0",
+                "--spring.datasource.url=" + PhotoStoreFixture.h2Url("management-port"))) {
+            Environment environment = context.getEnvironment();
+            String port = environment.getProperty("local.server.port");
+            String managementPort = environment.getProperty("local.management.port");
+            assertThat(managementPort).isNotNull().isNotEqualTo(port);
+
+            assertThat(get(port, "/actuator/prometheus").statusCode()).isEqualTo(404);
+
+            HttpResponse<String> metrics = get(managementPort, "/actuator/prometheus");
+            assertThat(metrics.statusCode()).isEqualTo(200);
+            assertThat(metrics.body()).contains("photo_limiter_available_permits");
+        }
+    }
+
+    @Test
+    void operationalEndpointsAreServedOnlyOnManagementPort() throws Exception {
+        try (ConfigurableApplicationContext context = PhotoStoreFixture.start(WebApplicationType.SERVLET,
+                "--server.port=0",
+                "--spring.datasource.url=" + PhotoStoreFixture.h2Url("management-endpoints"))) {
+            Environment environment = context.getEnvironment();
+            String port = environment.getProperty("local.server.port");
+            String managementPort = environment.getProperty("local.management.port");
+
+            // 예전 관리용 컨트롤러 경로는 서비스 포트에서 사라짐
+            assertThat(get(port, "/photo-store/admin/slow-requests").statusCode()).isEqualTo(404);
+            assertThat(get(port, "/photo-store/admin/cache/stats").statusCode()).isEqualTo(404);
+
+            HttpResponse<String> slowRequests = get(managementPort, "/actuator/slowrequests");
+            assertThat(slowRequests.statusCode()).isEqualTo(200);
+            assertThat(slowRequests.body()).contains("thresholdMs");
+            HttpResponse<String> cache = get(managementPort, "/actuator/entitycache");
+            assertThat(cache.statusCode()).isEqualTo(200);
+            assertThat(cache.body()).contains("statisticsEnabled");
+        }
+    }
+
+    private HttpResponse<String> get(String port, String path) throws Exception {
+        return httpClient.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+}
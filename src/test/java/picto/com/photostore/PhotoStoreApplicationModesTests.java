@@ -0,0 +1,40 @@
+package picto.com.photostore;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import picto.com.photostore.controller.PhotoController;
+import picto.com.photostore.controller.ReactivePhotoController;
+import picto.com.photostore.fixture.PhotoStoreFixture;
+import picto.com.photostore.repository.reactive.ReactivePhotoRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// servlet / reactive 두 실행 모드가 같은 클래스패스에서 기동되는지 확인
+class PhotoStoreApplicationModesTests {
+
+    @Test
+    void servletModeStartsWithoutReactiveRepositories() {
+        try (ConfigurableApplicationContext context = PhotoStoreFixture.start(WebApplicationType.SERVLET,
+                "--server.port=0",
+                "--spring.datasource.url=" + PhotoStoreFixture.h2Url("modes-servlet"))) {
+            assertThat(context.getBeanNamesForType(PhotoController.class)).hasSize(1);
+            assertThat(context.getBeanNamesForType(ReactivePhotoController.class)).isEmpty();
+            assertThat(context.getBeanNamesForType(ReactivePhotoRepository.class)).isEmpty();
+        }
+    }
+
+    @Test
+    void reactiveModeStartsWithR2dbcRepositories() {
+        try (ConfigurableApplicationContext context = PhotoStoreFixture.start(WebApplicationType.REACTIVE,
+                "--spring.profiles.active=reactive",
+                "--server.port=0",
+                "--spring.datasource.url=" + PhotoStoreFixture.h2Url("modes-reactive"),
+                // 커넥션은 첫 요청 때 맺으므로 기동만 확인
+                "--photo.reactive.r2dbc.url=r2dbc:mysql://localhost:3306/photo_schema")) {
+            assertThat(context.getBeanNamesForType(ReactivePhotoController.class)).hasSize(1);
+            assertThat(context.getBeanNamesForType(ReactivePhotoRepository.class)).hasSize(1);
+            assertThat(context.getBeanNamesForType(PhotoController.class)).isEmpty();
+        }
+    }
+}
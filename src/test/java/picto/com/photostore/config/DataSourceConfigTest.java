@@ -0,0 +1,59 @@
+package picto.com.photostore.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataSourceConfigTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(DataSourcePropertiesConfig.class, DataSourceConfig.class)
+            .withPropertyValues(
+                    "datasource.routing.enabled=true",
+                    "spring.datasource.url=jdbc:h2:mem:config-primary;DB_CLOSE_DELAY=-1",
+                    "spring.datasource.hikari.maximum-pool-size=3",
+                    "spring.datasource.hikari.connection-timeout=1500",
+                    "datasource.routing.replicas[0].url=jdbc:h2:mem:config-replica-0;DB_CLOSE_DELAY=-1",
+                    "datasource.routing.replicas[1].url=jdbc:h2:mem:config-replica-1;DB_CLOSE_DELAY=-1",
+                    "datasource.routing.replicas[1].maximum-pool-size=2");
+
+    @Test
+    void poolsUseHikariPropertiesAndCloseWithContext() {
+        HikariDataSource[] pools = new HikariDataSource[3];
+        contextRunner.run(context -> {
+            pools[0] = context.getBean("primaryDataSource", HikariDataSource.class);
+            Map<Object, DataSource> targets = context.getBean(ReadWriteRoutingDataSource.class).getResolvedDataSources();
+            pools[1] = (HikariDataSource) targets.get("replica-0");
+            pools[2] = (HikariDataSource) targets.get("replica-1");
+
+            assertThat(pools[0].getMaximumPoolSize()).isEqualTo(3);
+            assertThat(pools[0].getConnectionTimeout()).isEqualTo(1500);
+            // 레플리카는 공통 설정을 따르고 maximum-pool-size만 개별 지정 가능
+            assertThat(pools[1].getMaximumPoolSize()).isEqualTo(3);
+            assertThat(pools[1].getConnectionTimeout()).isEqualTo(1500);
+            assertThat(pools[1].isReadOnly()).isTrue();
+            assertThat(pools[2].getMaximumPoolSize()).isEqualTo(2);
+            assertThat(pools[2].getJdbcUrl()).contains("config-replica-1");
+
+            // primary 풀을 실제로 시작시킨 뒤 종료 확인
+            try (Connection connection = context.getBean(DataSource.class).getConnection()) {
+                assertThat(connection.isValid(1)).isTrue();
+            }
+        });
+
+        assertThat(pools).allSatisfy(pool -> assertThat(pool.isClosed()).isTrue());
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(DataSourceProperties.class)
+    static class DataSourcePropertiesConfig {
+    }
+}
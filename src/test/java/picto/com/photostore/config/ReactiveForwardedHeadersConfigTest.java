@@ -0,0 +1,33 @@
+package picto.com.photostore.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// reactive 모드의 X-Forwarded-For 해석 (신뢰할 프록시에서 온 요청만, 오른쪽부터)
+class ReactiveForwardedHeadersConfigTest {
+    private static final Pattern TRUSTED = Pattern.compile("172\\.31\\.\\d{1,3}\\.\\d{1,3}");
+    private static final String PROXY = "172.31.4.10";
+
+    @Test
+    void clientsBehindSameProxyAreDistinguished() {
+        assertThat(ReactiveForwardedHeadersConfig.clientAddress(PROXY, "203.0.113.1", TRUSTED)).isEqualTo("203.0.113.1");
+        assertThat(ReactiveForwardedHeadersConfig.clientAddress(PROXY, "203.0.113.2", TRUSTED)).isEqualTo("203.0.113.2");
+    }
+
+    @Test
+    void usesLastUntrustedHop() {
+        // 클라이언트가 앞에 넣은 값은 무시, 신뢰 프록시 체인은 건너뜀
+        assertThat(ReactiveForwardedHeadersConfig.clientAddress(PROXY, "198.51.100.7, 203.0.113.1, 172.31.9.9", TRUSTED))
+                .isEqualTo("203.0.113.1");
+    }
+
+    @Test
+    void ignoresHeadersFromUntrustedPeer() {
+        assertThat(ReactiveForwardedHeadersConfig.clientAddress("198.51.100.7", "203.0.113.1", TRUSTED))
+                .isEqualTo("198.51.100.7");
+        assertThat(ReactiveForwardedHeadersConfig.clientAddress(PROXY, null, TRUSTED)).isEqualTo(PROXY);
+    }
+}
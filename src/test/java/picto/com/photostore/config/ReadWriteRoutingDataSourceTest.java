@@ -0,0 +1,101 @@
+package picto.com.photostore.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 내장 H2 두 개(primary, replica)로 라우팅 확인
+class ReadWriteRoutingDataSourceTest {
+    private final DataSourceRoutingProperties properties = new DataSourceRoutingProperties();
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private ReadWriteRoutingDataSource routingDataSource;
+    private DataSourceTransactionManager transactionManager;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        properties.setMaxReplicaLag(Duration.ofSeconds(5));
+        properties.setLagQuery("SELECT seconds FROM replica_lag");
+        primary = new JdbcTemplate(database("primary"));
+        replica = new JdbcTemplate(database("replica"));
+        start(Map.of("replica-0", replica.getDataSource()));
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertThat(nodeName(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void writeTransactionAndNonTransactionalAccessUsePrimary() {
+        assertThat(nodeName(false)).isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM node", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    void lagAboveLimitFallsBackToPrimaryUntilCaughtUp() {
+        replica.update("UPDATE replica_lag SET seconds = 30");
+        routingDataSource.checkReplicas();
+        assertThat(nodeName(true)).isEqualTo("primary");
+
+        // 경계값(max-replica-lag와 같은 지연)은 사용
+        replica.update("UPDATE replica_lag SET seconds = 5");
+        routingDataSource.checkReplicas();
+        assertThat(nodeName(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void idleReplicaWithoutLagRowIsAvailable() {
+        replica.update("DELETE FROM replica_lag");
+        routingDataSource.checkReplicas();
+
+        assertThat(nodeName(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToPrimary() {
+        DataSource missing = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";IFEXISTS=TRUE", "sa", "");
+        start(Map.of("replica-0", missing));
+
+        routingDataSource.checkReplicas();
+
+        assertThat(nodeName(true)).isEqualTo("primary");
+    }
+
+    private void start(Map<String, DataSource> replicas) {
+        routingDataSource = new ReadWriteRoutingDataSource(primary.getDataSource(), replicas, properties);
+        routingDataSource.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    private String nodeName(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        jdbcTemplate.execute("CREATE TABLE replica_lag (seconds BIGINT)");
+        jdbcTemplate.update("INSERT INTO replica_lag VALUES (0)");
+        return dataSource;
+    }
+}
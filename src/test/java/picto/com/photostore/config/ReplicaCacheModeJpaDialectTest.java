@@ -0,0 +1,76 @@
+package picto.com.photostore.config;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import picto.com.photostore.domain.Photo;
+import picto.com.photostore.domain.PhotoUploadRequest;
+import picto.com.photostore.fixture.PhotoStoreFixture;
+import picto.com.photostore.fixture.SampleImages;
+import picto.com.photostore.repository.PhotoRepository;
+import picto.com.photostore.service.PhotoService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 지연된 레플리카: 변경/무효화 직후 레플리카가 돌려준 예전 행이 2차 캐시에 들어가지 않는지 확인
+class ReplicaCacheModeJpaDialectTest {
+
+    @Test
+    void staleReplicaRowIsNotCachedAfterEviction() {
+        String primaryUrl = PhotoStoreFixture.h2Url("replica-cache-primary");
+        String replicaUrl = PhotoStoreFixture.h2Url("replica-cache-replica");
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(replicaUrl, "sa", ""));
+        new ResourceDatabasePopulator(new ClassPathResource("fixture-schema.sql"), new ClassPathResource("fixture-data.sql"))
+                .execute(replica.getDataSource());
+
+        try (ConfigurableApplicationContext context = PhotoStoreFixture.start(WebApplicationType.NONE,
+                "--spring.datasource.url=" + primaryUrl,
+                "--datasource.routing.enabled=true",
+                "--datasource.routing.replicas[0].url=" + replicaUrl,
+                "--datasource.routing.replicas[0].username=sa",
+                "--datasource.routing.lag-query=SELECT 0")) {
+            PhotoService photoService = context.getBean(PhotoService.class);
+            PhotoRepository photoRepository = context.getBean(PhotoRepository.class);
+            Cache cache = context.getBean(EntityManagerFactory.class).getCache();
+            TransactionTemplate readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            readOnly.setReadOnly(true);
+
+            Long photoId = photoService.uploadPhoto(new MockMultipartFile("file", "photo.jpg", "image/jpeg",
+                    SampleImages.jpeg(320, 240, 3)), uploadRequest()).getPhotoId();
+            // 업로드까지는 레플리카에 복제됨
+            new SimpleJdbcInsert(replica).withSchemaName("photo_schema").withTableName("Photo")
+                    .execute(context.getBean(JdbcTemplate.class)
+                            .queryForMap("SELECT * FROM photo_schema.Photo WHERE photo_id = ?", photoId));
+
+            // 공유 변경은 아직 레플리카에 반영되지 않음
+            photoService.updateShareStatus(photoId, true);
+            assertThat(cache.contains(Photo.class, photoId)).isFalse();
+
+            Photo stale = readOnly.execute(status -> photoRepository.findById(photoId).orElseThrow());
+            assertThat(stale.isSharedActive()).isFalse();
+            assertThat(cache.contains(Photo.class, photoId)).isFalse();
+
+            // 캐시를 채우는 조회는 primary에서 읽음
+            assertThat(photoService.getPhotoById(photoId).isSharedActive()).isTrue();
+            assertThat(cache.contains(Photo.class, photoId)).isTrue();
+            // 이후 읽기 전용 조회는 캐시의 최신 행을 사용
+            assertThat(readOnly.execute(status -> photoRepository.findById(photoId).orElseThrow()).isSharedActive()).isTrue();
+        }
+    }
+
+    private static PhotoUploadRequest uploadRequest() {
+        PhotoUploadRequest request = new PhotoUploadRequest();
+        request.setUserId(1L);
+        return request;
+    }
+}
@@ -0,0 +1,51 @@
+package picto.com.photostore.config;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import picto.com.photostore.service.SlowRequestLog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ServerTimingFilterTest {
+    // 임계값 0: 모든 요청을 기록
+    private final SlowRequestLog slowRequestLog = new SlowRequestLog(0, 1.0, 16);
+    private final ServerTimingFilter filter = new ServerTimingFilter(slowRequestLog);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(filter, "serverTimingEnabled", true);
+    }
+
+    @Test
+    void recordsStatusAndAddsServerTimingHeader() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request(), response, (req, res) -> ((HttpServletResponse) res).setStatus(404));
+
+        assertThat(response.getHeader("Server-Timing")).contains("total;dur=");
+        assertThat(slowRequestLog.snapshot()).singleElement()
+                .satisfies(slow -> assertThat(slow.status()).isEqualTo(404));
+    }
+
+    @Test
+    void exceptionIsRecordedAsServerError() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> filter.doFilter(request(), response, (req, res) -> {
+            throw new ServletException("handler failed");
+        })).isInstanceOf(ServletException.class);
+
+        assertThat(slowRequestLog.snapshot()).singleElement()
+                .satisfies(slow -> assertThat(slow.status()).isEqualTo(500));
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/photo-store/photos/1");
+    }
+}
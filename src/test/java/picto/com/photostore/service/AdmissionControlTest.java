@@ -0,0 +1,84 @@
+package picto.com.photostore.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import picto.com.photostore.exception.InvalidOperationException;
+import picto.com.photostore.exception.RateLimitExceededException;
+import picto.com.photostore.exception.ResourceBusyException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class AdmissionControlTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    // 분당 1회, 버킷 1개, 동시 업로드 1개
+    private final AdmissionControl admissionControl = new AdmissionControl(1, 1, 1, 1, 1, 100, Duration.ofMinutes(10),
+            new PhotoMetrics(registry, mock(ConcurrencyLimiter.class)));
+
+    @Test
+    void rejectsUploadWithoutUserId() {
+        assertThatThrownBy(() -> admissionControl.acquireUpload(null, "ip:10.0.0.1"))
+                .isInstanceOf(InvalidOperationException.class);
+    }
+
+    @Test
+    void limitFollowsClientNotRequestedUserId() {
+        admissionControl.acquireUpload(1L, "ip:10.0.0.1").close();
+
+        // 같은 클라이언트가 userId를 바꿔도 같은 버킷
+        assertThatThrownBy(() -> admissionControl.acquireUpload(2L, "ip:10.0.0.1"))
+                .isInstanceOf(RateLimitExceededException.class)
+                .extracting(e -> ((RateLimitExceededException) e).getRetryAfterSeconds())
+                .isEqualTo(60L);
+        // 다른 클라이언트는 별도 버킷
+        admissionControl.acquireUpload(1L, "ip:10.0.0.2").close();
+
+        assertThat(registry.get("photo.admission.rejected").tag("reason", "rate_limited").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void busyRejectionRefundsToken() {
+        try (AdmissionControl.Permit permit = admissionControl.acquireUpload(1L, "ip:10.0.0.1")) {
+            assertThatThrownBy(() -> admissionControl.acquireUpload(2L, "ip:10.0.0.2"))
+                    .isInstanceOf(ResourceBusyException.class);
+        }
+
+        // 503으로 거절된 클라이언트는 토큰을 잃지 않음
+        admissionControl.acquireUpload(2L, "ip:10.0.0.2").close();
+    }
+
+    @Test
+    void permitIsReleasedOnce() {
+        AdmissionControl.Permit permit = admissionControl.acquireUpload(1L, "ip:10.0.0.1");
+        permit.close();
+        permit.close();
+
+        admissionControl.acquireUpload(2L, "ip:10.0.0.2").close();
+    }
+
+    @Test
+    void clientKeyUsesAuthenticatedPrincipalOrAddress() {
+        assertThat(AdmissionControl.clientKey(new UsernamePasswordAuthenticationToken("alice", null, AuthorityUtils.NO_AUTHORITIES),
+                "10.0.0.1")).isEqualTo("user:alice");
+        assertThat(AdmissionControl.clientKey(new AnonymousAuthenticationToken("key", "anonymousUser",
+                AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")), "10.0.0.1")).isEqualTo("ip:10.0.0.1");
+        assertThat(AdmissionControl.clientKey(null, "10.0.0.1")).isEqualTo("ip:10.0.0.1");
+        assertThat(AdmissionControl.clientKey(null, null)).isEqualTo("ip:unknown");
+    }
+
+    @Test
+    void retryAfterRoundsUpToWholeSeconds() {
+        assertThat(AdmissionControl.retryAfterSeconds(1)).isEqualTo(1);
+        assertThat(AdmissionControl.retryAfterSeconds(1_000_000_000)).isEqualTo(1);
+        assertThat(AdmissionControl.retryAfterSeconds(1_000_000_001)).isEqualTo(2);
+        assertThat(AdmissionControl.retryAfterSeconds(59_500_000_000L)).isEqualTo(60);
+    }
+}
@@ -0,0 +1,115 @@
+package picto.com.photostore.service;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import picto.com.photostore.domain.Photo;
+import picto.com.photostore.domain.PhotoResponse;
+import picto.com.photostore.domain.PhotoUploadRequest;
+import picto.com.photostore.fixture.PhotoStoreFixture;
+import picto.com.photostore.fixture.SampleImages;
+import picto.com.photostore.repository.PhotoRepository;
+
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 DB를 쓰는 두 노드: A의 변경이 무효화 로그 폴링 후 B의 로컬 캐시/인덱스에 반영되는지 확인
+class CacheInvalidationServiceTest {
+    private static final long POLL_INTERVAL_MS = 100;
+
+    @Test
+    void otherNodeFollowsPhotoChangesInHashIndex() throws InterruptedException {
+        String url = PhotoStoreFixture.h2Url("invalidation-photo");
+        try (ConfigurableApplicationContext nodeA = start(url);
+             ConfigurableApplicationContext nodeB = start(url, "--spring.sql.init.mode=never")) {
+            PhotoService photoService = nodeA.getBean(PhotoService.class);
+            PhotoHashIndex indexB = nodeB.getBean(PhotoHashIndex.class);
+
+            PhotoResponse uploaded = photoService.uploadPhoto(new MockMultipartFile("file", "photo.jpg", "image/jpeg",
+                    SampleImages.jpeg(320, 240, 1)), uploadRequest(1L));
+            long hash = nodeA.getBean(PhotoRepository.class).findPerceptualHashByPhotoId(uploaded.getPhotoId()).orElseThrow();
+            assertThat(await(() -> containsPhoto(indexB, hash, uploaded.getPhotoId()))).isTrue();
+
+            photoService.deletePhoto(uploaded.getPhotoId(), 1L);
+            assertThat(await(() -> !containsPhoto(indexB, hash, uploaded.getPhotoId()))).isTrue();
+        }
+    }
+
+    @Test
+    void otherNodeEvictsPhotoFromSecondLevelCache() throws InterruptedException {
+        String url = PhotoStoreFixture.h2Url("invalidation-l2");
+        try (ConfigurableApplicationContext nodeA = start(url);
+             ConfigurableApplicationContext nodeB = start(url, "--spring.sql.init.mode=never")) {
+            PhotoResponse uploaded = nodeA.getBean(PhotoService.class).uploadPhoto(new MockMultipartFile("file", "photo.jpg",
+                    "image/jpeg", SampleImages.jpeg(320, 240, 2)), uploadRequest(1L));
+            Long photoId = uploaded.getPhotoId();
+            // 업로드 무효화가 B에 반영된 뒤 조회해야 폴링이 방금 채운 캐시를 지우지 않음
+            long hash = nodeA.getBean(PhotoRepository.class).findPerceptualHashByPhotoId(photoId).orElseThrow();
+            assertThat(await(() -> containsPhoto(nodeB.getBean(PhotoHashIndex.class), hash, photoId))).isTrue();
+
+            PhotoService photoServiceB = nodeB.getBean(PhotoService.class);
+            Cache cacheB = nodeB.getBean(EntityManagerFactory.class).getCache();
+            assertThat(photoServiceB.getPhotoById(photoId).isSharedActive()).isFalse();
+            assertThat(cacheB.contains(Photo.class, photoId)).isTrue();
+
+            nodeA.getBean(PhotoService.class).updateShareStatus(photoId, true);
+
+            // A의 커밋 시점 제거는 A의 2차 캐시에만 적용되고, B는 폴링으로 제거
+            assertThat(await(() -> !cacheB.contains(Photo.class, photoId))).isTrue();
+            assertThat(photoServiceB.getPhotoById(photoId).isSharedActive()).isTrue();
+        }
+    }
+
+    @Test
+    void otherNodeEvictsUserChangedByAnotherService() throws InterruptedException {
+        String url = PhotoStoreFixture.h2Url("invalidation-user");
+        try (ConfigurableApplicationContext nodeA = start(url);
+             ConfigurableApplicationContext nodeB = start(url, "--spring.sql.init.mode=never")) {
+            EntityCacheService cacheB = nodeB.getBean(EntityCacheService.class);
+            assertThat(cacheB.userExists(7L)).isTrue();
+
+            // 사용자 서비스의 삭제 (DB 트리거가 무효화 로그 기록)
+            nodeA.getBean(JdbcTemplate.class).update("DELETE FROM photo_schema.User WHERE user_id = 7");
+
+            assertThat(await(() -> !cacheB.userExists(7L))).isTrue();
+        }
+    }
+
+    private static boolean containsPhoto(PhotoHashIndex index, long hash, Long photoId) {
+        return index.findSimilar(hash, 0, null, 10).stream().anyMatch(match -> match.photoId() == photoId);
+    }
+
+    private static boolean await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + POLL_INTERVAL_MS * 50;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(POLL_INTERVAL_MS / 2);
+        }
+        return condition.getAsBoolean();
+    }
+
+    private static PhotoUploadRequest uploadRequest(Long userId) {
+        PhotoUploadRequest request = new PhotoUploadRequest();
+        request.setUserId(userId);
+        return request;
+    }
+
+    private static ConfigurableApplicationContext start(String url, String... args) {
+        String[] allArgs = new String[args.length + 3];
+        allArgs[0] = "--spring.datasource.url=" + url;
+        allArgs[1] = "--cache.invalidation.poll-interval-ms=" + POLL_INTERVAL_MS;
+        // 같은 JVM의 노드가 기본 JCache CacheManager(2차 캐시)를 공유하지 않도록 노드별 URI 지정
+        // (접속하지 않는 식별용 URL, file/classpath가 아니면 Caffeine은 기본 application.conf 사용)
+        allArgs[2] = "--spring.jpa.properties.hibernate.javax.cache.uri=http://localhost/photo-store/" + UUID.randomUUID();
+        System.arraycopy(args, 0, allArgs, 3, args.length);
+        return PhotoStoreFixture.start(WebApplicationType.NONE, allArgs);
+    }
+}
@@ -0,0 +1,51 @@
+package picto.com.photostore.service;
+
+import org.junit.jupiter.api.Test;
+import picto.com.photostore.exception.ResourceBusyException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimiterTest {
+    private final ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 2, 1, 50);
+
+    @Test
+    void rejectsWhenAllPermitsAreHeld() {
+        // 바깥 호출이 유일한 S3 permit을 잡고 있는 동안 안쪽 호출은 대기 시간 후 거절
+        assertThatThrownBy(() -> limiter.call(ConcurrencyLimiter.Resource.S3,
+                () -> limiter.call(ConcurrencyLimiter.Resource.S3, () -> "inner")))
+                .isInstanceOf(ResourceBusyException.class);
+
+        assertThat(limiter.availablePermits(ConcurrencyLimiter.Resource.S3)).isEqualTo(1);
+    }
+
+    @Test
+    void resourcesHaveSeparatePermits() {
+        String result = limiter.call(ConcurrencyLimiter.Resource.DB,
+                () -> limiter.call(ConcurrencyLimiter.Resource.DB,
+                        () -> limiter.call(ConcurrencyLimiter.Resource.S3, () -> "done")));
+
+        assertThat(result).isEqualTo("done");
+    }
+
+    @Test
+    void releasesPermitWhenActionFails() {
+        assertThatThrownBy(() -> limiter.run(ConcurrencyLimiter.Resource.SCHEDULER, () -> {
+            throw new IllegalStateException("scheduler down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(limiter.availablePermits(ConcurrencyLimiter.Resource.SCHEDULER)).isEqualTo(1);
+    }
+
+    @Test
+    void interruptedWaitIsRejected() {
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> limiter.call(ConcurrencyLimiter.Resource.S3, () -> "never"))
+                    .isInstanceOf(ResourceBusyException.class);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
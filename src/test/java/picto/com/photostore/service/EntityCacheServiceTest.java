@@ -0,0 +1,54 @@
+package picto.com.photostore.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import picto.com.photostore.fixture.PhotoStoreFixture;
+import picto.com.photostore.repository.UserRepository;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityCacheServiceTest {
+
+    @Test
+    void hibernateStatisticsAreOffByDefault() {
+        try (ConfigurableApplicationContext context = start("cache-statistics-default")) {
+            Map<String, Object> statistics = loadUserTwice(context);
+
+            assertThat(statistics).containsEntry("statisticsEnabled", false);
+            assertThat(userRegion(statistics).get("hits")).isEqualTo(0L);
+        }
+    }
+
+    @Test
+    void statisticsPropertyEnablesRegionCounters() {
+        try (ConfigurableApplicationContext context = start("cache-statistics-enabled", "--photo.cache.statistics-enabled=true")) {
+            Map<String, Object> statistics = loadUserTwice(context);
+
+            assertThat(statistics).containsEntry("statisticsEnabled", true);
+            // 두 번째 조회는 2차 캐시 적중
+            assertThat(userRegion(statistics).get("hits")).isEqualTo(1L);
+        }
+    }
+
+    private static Map<String, Object> loadUserTwice(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        userRepository.findById(1L).orElseThrow();
+        userRepository.findById(1L).orElseThrow();
+        return context.getBean(EntityCacheService.class).getStatistics();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> userRegion(Map<String, Object> statistics) {
+        return (Map<String, Object>) statistics.get(EntityCacheService.USER_REGION);
+    }
+
+    private static ConfigurableApplicationContext start(String databaseName, String... args) {
+        String[] allArgs = new String[args.length + 1];
+        allArgs[0] = "--spring.datasource.url=" + PhotoStoreFixture.h2Url(databaseName);
+        System.arraycopy(args, 0, allArgs, 1, args.length);
+        return PhotoStoreFixture.start(WebApplicationType.NONE, allArgs);
+    }
+}
@@ -0,0 +1,44 @@
+package picto.com.photostore.service;
+
+import org.junit.jupiter.api.Test;
+import picto.com.photostore.fixture.SampleImages;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartInputStreamTest {
+    private final PerceptualHashService perceptualHashService = new PerceptualHashService();
+
+    @Test
+    void hashesImageFedPartByPart() {
+        byte[] image = SampleImages.jpeg(640, 480, 1);
+        PartInputStream input = new PartInputStream();
+
+        // 디코더는 다른 스레드에서 파트가 들어오기를 기다림
+        CompletableFuture<Long> hash = CompletableFuture.supplyAsync(() -> perceptualHashService.computeHash(input, "image/jpeg"));
+        int partSize = image.length / 3 + 1;
+        for (int offset = 0; offset < image.length; offset += partSize) {
+            input.add(ByteBuffer.wrap(image, offset, Math.min(partSize, image.length - offset)).slice());
+        }
+        input.finish();
+
+        assertThat(hash.join()).isNotNull()
+                .isEqualTo(perceptualHashService.computeHash(new ByteArrayInputStream(image), "image/jpeg"));
+    }
+
+    @Test
+    void dropsPartsAddedAfterClose() throws Exception {
+        PartInputStream input = new PartInputStream();
+        input.add(ByteBuffer.wrap(new byte[]{1, 2}));
+        assertThat(input.read()).isEqualTo(1);
+
+        input.close();
+        input.add(ByteBuffer.wrap(new byte[]{3}));
+        input.finish();
+
+        assertThat(input.read()).isEqualTo(-1);
+    }
+}
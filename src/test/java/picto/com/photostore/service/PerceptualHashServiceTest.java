@@ -0,0 +1,62 @@
+package picto.com.photostore.service;
+
+import net.coobird.thumbnailator.Thumbnails;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import picto.com.photostore.fixture.SampleImages;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PerceptualHashServiceTest {
+    private final PerceptualHashService perceptualHashService = new PerceptualHashService();
+
+    @Test
+    void sameImageHasSameHash() {
+        byte[] image = SampleImages.jpeg(640, 480, 1);
+
+        assertThat(hash(image)).isNotNull().isEqualTo(hash(image));
+    }
+
+    @Test
+    void resizedImageStaysWithinSimilarityDistance() throws IOException {
+        byte[] image = SampleImages.jpeg(640, 480, 1);
+        ByteArrayOutputStream resized = new ByteArrayOutputStream();
+        Thumbnails.of(new ByteArrayInputStream(image)).size(320, 240).outputFormat("jpg").outputQuality(0.6).toOutputStream(resized);
+
+        // 기본 유사 판정 거리(photo.similarity.max-distance)는 10
+        assertThat(PerceptualHashService.distance(hash(image), hash(resized.toByteArray()))).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void differentImagesAreFarApart() {
+        assertThat(PerceptualHashService.distance(hash(SampleImages.jpeg(640, 480, 1)), hash(SampleImages.jpeg(640, 480, 2))))
+                .isGreaterThan(10);
+    }
+
+    @Test
+    void returnsNullForUndecodableContent() {
+        assertThat(hash(SampleImages.randomBytes(1024, 1))).isNull();
+    }
+
+    @Test
+    void streamAndMultipartFileGiveSameHash() {
+        byte[] image = SampleImages.jpeg(320, 240, 3);
+
+        assertThat(perceptualHashService.computeHash(new ByteArrayInputStream(image), "image/jpeg")).isEqualTo(hash(image));
+    }
+
+    @Test
+    void distanceIsHammingDistance() {
+        assertThat(PerceptualHashService.distance(0L, 0L)).isZero();
+        assertThat(PerceptualHashService.distance(0b1011L, 0b0001L)).isEqualTo(2);
+        assertThat(PerceptualHashService.distance(0L, -1L)).isEqualTo(64);
+    }
+
+    private Long hash(byte[] image) {
+        return perceptualHashService.computeHash(new MockMultipartFile("file", "photo.jpg", "image/jpeg", image));
+    }
+}
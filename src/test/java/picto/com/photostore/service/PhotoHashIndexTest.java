@@ -0,0 +1,178 @@
+package picto.com.photostore.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import picto.com.photostore.repository.PhotoRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PhotoHashIndexTest {
+    private static final long BASE = 0x5A5A_F0F0_1234_ABCDL;
+
+    private final PhotoRepository photoRepository = mock(PhotoRepository.class);
+    private final PhotoHashIndex index = new PhotoHashIndex(photoRepository);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void findsMatchesWithinRadiusOrderedByDistance() {
+        index.add(1L, BASE);
+        index.add(2L, flip(BASE, 3));
+        index.add(3L, flip(BASE, 1));
+        index.add(4L, flip(BASE, 20));
+
+        assertThat(index.findSimilar(BASE, 5, null, 10))
+                .containsExactly(new PhotoHashIndex.Match(1L, 0), new PhotoHashIndex.Match(3L, 1), new PhotoHashIndex.Match(2L, 3));
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void includesMatchExactlyAtMaxDistanceOnly() {
+        index.add(1L, flip(BASE, 10));
+        index.add(2L, flip(BASE, 11));
+
+        assertThat(index.findSimilar(BASE, 10, null, 10)).containsExactly(new PhotoHashIndex.Match(1L, 10));
+        assertThat(index.findSimilar(BASE, 9, null, 10)).isEmpty();
+        assertThat(index.findSimilar(BASE, 11, null, 10)).extracting(PhotoHashIndex.Match::photoId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void removeKeepsOtherPhotosWithSameHash() {
+        index.add(1L, BASE);
+        index.add(2L, BASE);
+        index.add(3L, flip(BASE, 2));
+
+        index.remove(1L);
+        // 없는 사진을 제거해도 변화 없음
+        index.remove(9L);
+
+        assertThat(index.findSimilar(BASE, 2, null, 10)).extracting(PhotoHashIndex.Match::photoId).containsExactly(2L, 3L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void addReplacesHashOfExistingPhoto() {
+        index.add(1L, BASE);
+        index.add(1L, BASE);
+        index.add(1L, flip(BASE, 30));
+
+        assertThat(index.findSimilar(BASE, 5, null, 10)).isEmpty();
+        assertThat(index.findSimilar(flip(BASE, 30), 0, null, 10)).containsExactly(new PhotoHashIndex.Match(1L, 0));
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void refreshFollowsDatabase() {
+        index.add(1L, BASE);
+        index.add(2L, BASE);
+        when(photoRepository.findPerceptualHashByPhotoId(1L)).thenReturn(Optional.of(flip(BASE, 30)));
+        when(photoRepository.findPerceptualHashByPhotoId(2L)).thenReturn(Optional.empty());
+        when(photoRepository.findPerceptualHashByPhotoId(3L)).thenReturn(Optional.of(BASE));
+
+        // 다른 노드에서 해시 변경(1), 삭제(2), 추가(3)
+        index.refresh(1L);
+        index.refresh(2L);
+        index.refresh(3L);
+
+        assertThat(index.findSimilar(BASE, 0, null, 10)).extracting(PhotoHashIndex.Match::photoId).containsExactly(3L);
+        assertThat(index.findSimilar(flip(BASE, 30), 0, null, 10)).extracting(PhotoHashIndex.Match::photoId).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void excludesPhotoAndAppliesLimit() {
+        for (long photoId = 1; photoId <= 5; photoId++) {
+            index.add(photoId, flip(BASE, (int) photoId));
+        }
+
+        assertThat(index.findSimilar(BASE, 10, 1L, 2)).extracting(PhotoHashIndex.Match::photoId).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void matchesBruteForceSearch() {
+        Random random = new Random(42);
+        List<Long> hashes = new ArrayList<>();
+        for (long photoId = 0; photoId < 2000; photoId++) {
+            // 일부는 기준 해시 근처에 모이도록 생성
+            long hash = random.nextInt(4) == 0 ? flipRandom(BASE, random.nextInt(16), random) : random.nextLong();
+            hashes.add(hash);
+            index.add(photoId, hash);
+        }
+
+        for (int maxDistance : new int[]{0, 4, 8, 12, 20}) {
+            long query = flipRandom(BASE, 2, random);
+            List<PhotoHashIndex.Match> expected = new ArrayList<>();
+            for (int i = 0; i < hashes.size(); i++) {
+                int distance = PerceptualHashService.distance(query, hashes.get(i));
+                if (distance <= maxDistance) {
+                    expected.add(new PhotoHashIndex.Match(i, distance));
+                }
+            }
+            expected.sort(Comparator.comparingInt(PhotoHashIndex.Match::distance).thenComparingLong(PhotoHashIndex.Match::photoId));
+
+            assertThat(index.findSimilar(query, maxDistance, null, Integer.MAX_VALUE)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void appliesChangesOnlyAfterCommit() {
+        index.add(1L, BASE);
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.addAfterCommit(2L, BASE);
+        index.removeAfterCommit(1L);
+        assertThat(index.findSimilar(BASE, 0, null, 10)).extracting(PhotoHashIndex.Match::photoId).containsExactly(1L);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+
+        assertThat(index.findSimilar(BASE, 0, null, 10)).extracting(PhotoHashIndex.Match::photoId).containsExactly(2L);
+    }
+
+    @Test
+    void ignoresChangesOfRolledBackTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        index.addAfterCommit(1L, BASE);
+
+        TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void appliesImmediatelyOutsideTransaction() {
+        index.addAfterCommit(1L, BASE);
+
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    // 하위 bits개 비트 반전 (해밍 거리 = bits)
+    private static long flip(long hash, int bits) {
+        return hash ^ (bits == 64 ? -1L : (1L << bits) - 1);
+    }
+
+    private static long flipRandom(long hash, int bits, Random random) {
+        long result = hash;
+        while (PerceptualHashService.distance(result, hash) < bits) {
+            result ^= 1L << random.nextInt(64);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,129 @@
+package picto.com.photostore.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import picto.com.photostore.domain.Photo;
+import picto.com.photostore.domain.PhotoResponse;
+import picto.com.photostore.domain.PhotoUploadRequest;
+import picto.com.photostore.domain.User;
+import picto.com.photostore.exception.ResourceBusyException;
+import picto.com.photostore.repository.PhotoRepository;
+import picto.com.photostore.repository.UserRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PhotoServiceTest {
+    private static final long HASH = 0x0F0F_0F0F_0F0F_0F0FL;
+    private static final long USER_ID = 7L;
+
+    private final S3Service s3Service = mock(S3Service.class);
+    private final PhotoRepository photoRepository = mock(PhotoRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PerceptualHashService perceptualHashService = mock(PerceptualHashService.class);
+    private final EntityCacheService entityCacheService = mock(EntityCacheService.class);
+    private final SessionSchedulerClient sessionSchedulerClient = mock(SessionSchedulerClient.class);
+    private final PhotoHashIndex photoHashIndex = new PhotoHashIndex(photoRepository);
+    private final User user = User.builder().userId(USER_ID).build();
+
+    private PhotoService photoService;
+
+    @BeforeEach
+    void setUp() {
+        PhotoMetrics photoMetrics = new PhotoMetrics(new SimpleMeterRegistry(), new ConcurrencyLimiter(1, 1, 1, 100));
+        photoService = new PhotoService(s3Service, photoRepository, userRepository, sessionSchedulerClient,
+                perceptualHashService, photoHashIndex, entityCacheService, mock(CacheInvalidationService.class), photoMetrics);
+        ReflectionTestUtils.setField(photoService, "similarityMaxDistance", 10);
+        ReflectionTestUtils.setField(photoService, "similarityMaxResults", 20);
+
+        when(entityCacheService.userExists(USER_ID)).thenReturn(true);
+        when(userRepository.getReferenceById(USER_ID)).thenReturn(user);
+        when(s3Service.uploadFile(any())).thenReturn("picto-photos/new_photo.jpg");
+        when(s3Service.getFileUrl(any())).thenReturn("https://bucket/picto-photos/new_photo.jpg");
+        when(photoRepository.save(any(Photo.class))).thenAnswer(invocation -> {
+            Photo photo = invocation.getArgument(0);
+            ReflectionTestUtils.setField(photo, "photoId", 3L);
+            return photo;
+        });
+    }
+
+    @Test
+    void uploadReturnsOnlySimilarPhotosThatStillExist() {
+        // 2번은 다른 노드에서 삭제되어 인덱스에만 남은 사진
+        photoHashIndex.add(1L, HASH ^ 1);
+        photoHashIndex.add(2L, HASH);
+        when(photoRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(photo(1L, HASH ^ 1)));
+        when(perceptualHashService.computeHash(any())).thenReturn(HASH);
+
+        PhotoResponse response = photoService.uploadPhoto(file(), uploadRequest());
+
+        assertThat(response.getPhotoId()).isEqualTo(3L);
+        assertThat(response.getSimilarPhotoIds()).containsExactly(1L);
+        // 트랜잭션 밖이므로 즉시 인덱스에 반영
+        assertThat(photoHashIndex.findSimilar(HASH, 0, null, 10)).extracting(PhotoHashIndex.Match::photoId).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void uploadWithoutHashSkipsSimilarityLookup() {
+        photoHashIndex.add(1L, HASH);
+        when(perceptualHashService.computeHash(any())).thenReturn(null);
+
+        PhotoResponse response = photoService.uploadPhoto(file(), uploadRequest());
+
+        assertThat(response.getSimilarPhotoIds()).isEmpty();
+        assertThat(photoHashIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shareKeepsSchedulerBusyAsResourceBusy() {
+        when(photoRepository.findById(1L)).thenReturn(Optional.of(photo(1L, HASH)));
+        doThrow(new ResourceBusyException("busy")).when(sessionSchedulerClient)
+                .scheduleSession(anyLong(), anyLong(), anyDouble(), anyDouble());
+
+        assertThatThrownBy(() -> photoService.updateShareStatus(1L, true))
+                .isExactlyInstanceOf(ResourceBusyException.class);
+    }
+
+    @Test
+    void uploadKeepsSchedulerBusyAsResourceBusy() {
+        when(perceptualHashService.computeHash(any())).thenReturn(null);
+        doThrow(new ResourceBusyException("busy")).when(sessionSchedulerClient)
+                .scheduleSession(anyLong(), anyLong(), anyDouble(), anyDouble());
+        PhotoUploadRequest request = uploadRequest();
+        request.setSharedActive(true);
+
+        assertThatThrownBy(() -> photoService.uploadPhoto(file(), request))
+                .isExactlyInstanceOf(ResourceBusyException.class);
+    }
+
+    private Photo photo(Long photoId, Long hash) {
+        return Photo.builder()
+                .photoId(photoId)
+                .user(user)
+                .s3FileName("picto-photos/photo" + photoId + ".jpg")
+                .perceptualHash(hash)
+                .build();
+    }
+
+    private static MockMultipartFile file() {
+        return new MockMultipartFile("file", "new_photo.jpg", "image/jpeg", new byte[]{1, 2, 3});
+    }
+
+    private static PhotoUploadRequest uploadRequest() {
+        PhotoUploadRequest request = new PhotoUploadRequest();
+        request.setUserId(USER_ID);
+        return request;
+    }
+}
@@ -0,0 +1,117 @@
+package picto.com.photostore.service;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.core.io.buffer.PooledDataBuffer;
+import org.springframework.test.util.ReflectionTestUtils;
+import picto.com.photostore.exception.InvalidFileException;
+import reactor.core.publisher.Flux;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class ReactiveS3ServiceTest {
+    private static final int MB = 1024 * 1024;
+
+    private final NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+
+    @Test
+    void splitsContentIntoFiveMegabyteParts() {
+        List<DataBuffer> buffers = buffers(6, MB);
+
+        List<ByteBuffer> parts = ReactiveS3Service.toParts(Flux.fromIterable(buffers)).collectList().block();
+
+        assertThat(parts).extracting(ByteBuffer::remaining).containsExactly(5 * MB, MB);
+
+        assertReleased(buffers);
+    }
+
+    @Test
+    void releasesCollectedBuffersWhenSizeLimitExceeded() {
+        // 3MB씩: 두 번째까지 모인 뒤(6MB -> 파트 1), 네 번째(12MB)에서 한도 초과
+        List<DataBuffer> buffers = buffers(5, 3 * MB);
+
+        assertThatThrownBy(() -> ReactiveS3Service.toParts(Flux.fromIterable(buffers)).collectList().block())
+                .isInstanceOf(InvalidFileException.class);
+
+        // 파트로 바뀐 버퍼, 다음 파트를 위해 모아둔 버퍼, 한도를 넘긴 버퍼, 취소로 버려진 나머지 버퍼 모두 반납
+        assertReleased(buffers);
+    }
+
+    @Test
+    void releasesEachPartOnceSent() {
+        // 호출 기록이 파트를 붙잡지 않도록 stubOnly
+        S3AsyncClient client = mock(S3AsyncClient.class, withSettings().stubOnly());
+        List<WeakReference<ByteBuffer>> parts = new ArrayList<>();
+        List<Integer> uploadedParts = new ArrayList<>();
+        List<CompletedPart> completedParts = new ArrayList<>();
+        List<Boolean> partsAliveAtComplete = new ArrayList<>();
+        when(client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(completedFuture(CreateMultipartUploadResponse.builder().uploadId("upload").build()));
+        when(client.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            uploadedParts.add(request.contentLength().intValue());
+            return completedFuture(UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build());
+        });
+        when(client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class))).thenAnswer(invocation -> {
+            CompleteMultipartUploadRequest request = invocation.getArgument(0);
+            completedParts.addAll(request.multipartUpload().parts());
+            // 완료 요청 시점에는 보낸 파트를 아무도 참조하지 않음
+            partsAliveAtComplete.addAll(collectGarbage(parts));
+            return completedFuture(CompleteMultipartUploadResponse.builder().build());
+        });
+        ReactiveS3Service service = new ReactiveS3Service(client);
+        ReflectionTestUtils.setField(service, "bucket", "picto-test");
+        List<DataBuffer> buffers = buffers(6, MB);
+
+        service.uploadFile("picto-photos/photo.jpg", "image/jpeg", Flux.fromIterable(buffers),
+                part -> parts.add(new WeakReference<>(part))).block();
+
+        assertThat(uploadedParts).containsExactly(5 * MB, MB);
+        assertThat(completedParts).extracting(CompletedPart::partNumber).containsExactly(1, 2);
+        assertThat(partsAliveAtComplete).containsExactly(false, false);
+        assertReleased(buffers);
+    }
+
+    @Test
+    void rejectsEmptyContent() {
+        assertThatThrownBy(() -> ReactiveS3Service.toParts(Flux.empty()).blockLast())
+                .isInstanceOf(InvalidFileException.class);
+    }
+
+    private List<DataBuffer> buffers(int count, int size) {
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            DataBuffer buffer = bufferFactory.allocateBuffer(size);
+            buffer.write(new byte[size]);
+            buffers.add(buffer);
+        }
+        return buffers;
+    }
+
+    private static List<Boolean> collectGarbage(List<WeakReference<ByteBuffer>> parts) {
+        for (int attempt = 0; attempt < 20 && parts.stream().anyMatch(part -> part.get() != null); attempt++) {
+            System.gc();
+        }
+        return parts.stream().map(part -> part.get() != null).toList();
+    }
+
+    private static void assertReleased(List<DataBuffer> buffers) {
+        assertThat(buffers).allSatisfy(buffer -> assertThat(((PooledDataBuffer) buffer).isAllocated()).isFalse());
+    }
+}
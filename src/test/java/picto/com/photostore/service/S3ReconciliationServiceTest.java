@@ -0,0 +1,222 @@
+package picto.com.photostore.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import picto.com.photostore.domain.Photo;
+import picto.com.photostore.domain.ReconciliationCheckpoint;
+import picto.com.photostore.fixture.InMemoryAmazonS3;
+import picto.com.photostore.repository.PhotoRepository;
+import picto.com.photostore.repository.ReconciliationCheckpointRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 인메모리 S3 목록/일괄 삭제 + 코드 포인트 순으로 키를 돌려주는 DB(utf8mb4_bin 인덱스 대역)로 병합 검사
+class S3ReconciliationServiceTest {
+    private static final String BUCKET = "picto-test";
+    private static final String PREFIX = S3Service.KEY_PREFIX;
+    private static final Duration GRACE = Duration.ofHours(1);
+
+    private final InMemoryAmazonS3 amazonS3 = new InMemoryAmazonS3();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PhotoMetrics photoMetrics = new PhotoMetrics(registry, mock(ConcurrencyLimiter.class));
+    private final PhotoRepository photoRepository = mock(PhotoRepository.class);
+    private final ReconciliationCheckpointRepository checkpointRepository = mock(ReconciliationCheckpointRepository.class);
+
+    // Photo.s3_file_name 값 (중복 허용)
+    private final List<String> dbKeys = new ArrayList<>();
+    private final AtomicReference<String> checkpoint = new AtomicReference<>();
+
+    private S3ReconciliationService service;
+
+    @BeforeEach
+    void setUp() {
+        S3Service s3Service = new S3Service(amazonS3, new ConcurrencyLimiter(4, 4, 4, 1000), photoMetrics);
+        ReflectionTestUtils.setField(s3Service, "bucket", BUCKET);
+        service = new S3ReconciliationService(s3Service, photoRepository, checkpointRepository,
+                mock(CacheInvalidationService.class), photoMetrics, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "dryRun", false);
+        ReflectionTestUtils.setField(service, "pageSize", 2);
+        ReflectionTestUtils.setField(service, "maxPagesPerRun", 100);
+        ReflectionTestUtils.setField(service, "pageDelay", Duration.ZERO);
+        ReflectionTestUtils.setField(service, "orphanGrace", GRACE);
+        ReflectionTestUtils.setField(service, "placeholderTtl", Duration.ofDays(7));
+        ReflectionTestUtils.setField(service, "lease", Duration.ofMinutes(10));
+
+        when(photoRepository.streamS3FileNames(anyString(), anyString(), anyString())).thenAnswer(invocation ->
+                sortedDbKeys(invocation.getArgument(0)).stream()
+                        .filter(key -> S3ReconciliationService.compareKeys(key, invocation.getArgument(1)) > 0)
+                        .filter(key -> S3ReconciliationService.compareKeys(key, invocation.getArgument(2)) <= 0));
+        when(photoRepository.countS3FileNamesAfter(anyString(), anyString())).thenAnswer(invocation ->
+                sortedDbKeys(invocation.getArgument(0)).stream()
+                        .filter(key -> S3ReconciliationService.compareKeys(key, invocation.getArgument(1)) > 0)
+                        .count());
+        when(checkpointRepository.existsById(anyString())).thenReturn(true);
+        when(checkpointRepository.acquireLease(anyString(), anyString(), anyLong(), anyLong())).thenReturn(1);
+        when(checkpointRepository.findById(anyString())).thenAnswer(invocation -> {
+            ReconciliationCheckpoint saved = new ReconciliationCheckpoint(invocation.getArgument(0));
+            ReflectionTestUtils.setField(saved, "lastKey", checkpoint.get());
+            return Optional.of(saved);
+        });
+        when(checkpointRepository.saveProgress(anyString(), anyString(), any(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            checkpoint.set(invocation.getArgument(2));
+            return 1;
+        });
+    }
+
+    @Test
+    void compareKeysFollowsCodePointOrder() {
+        String bmp = PREFIX + "～.jpg";
+        String supplementary = PREFIX + "😀.jpg";
+
+        // UTF-16 단위 비교와 반대 (S3/utf8mb4_bin은 U+FF5E < U+1F600)
+        assertThat(bmp.compareTo(supplementary)).isPositive();
+        assertThat(S3ReconciliationService.compareKeys(bmp, supplementary)).isNegative();
+        assertThat(S3ReconciliationService.compareKeys(supplementary, bmp)).isPositive();
+        assertThat(S3ReconciliationService.compareKeys(bmp, bmp)).isZero();
+        assertThat(S3ReconciliationService.compareKeys(PREFIX + "a", PREFIX + "ab")).isNegative();
+    }
+
+    @Test
+    void mergesInterleavedKeysAcrossPages() {
+        putOld("a", "b", "c", "d", "e");
+        amazonS3.putBytes(BUCKET, PREFIX + "f", new byte[1]);
+        // bb, g는 S3에 없음, c는 같은 키를 가진 행이 두 개
+        addDbKeys("a", "bb", "c", "c", "e", "g");
+
+        service.reconcile();
+
+        assertThat(existing("a", "b", "c", "d", "e", "f")).containsExactly("a", "c", "e", "f");
+        assertThat(count("orphan_found")).isEqualTo(2);
+        assertThat(count("orphan_deleted")).isEqualTo(2);
+        // 유예 시간 안의 객체는 삭제하지 않음
+        assertThat(count("orphan_recent")).isEqualTo(1);
+        assertThat(count("missing_in_s3")).isEqualTo(2);
+        assertThat(checkpoint.get()).isNull();
+    }
+
+    @Test
+    void deletesOnlyObjectsOlderThanGrace() {
+        long now = System.currentTimeMillis();
+        amazonS3.putBytes(BUCKET, PREFIX + "old", new byte[1], new Date(now - GRACE.toMillis() - 60_000));
+        amazonS3.putBytes(BUCKET, PREFIX + "young", new byte[1], new Date(now - GRACE.toMillis() + 60_000));
+
+        service.reconcile();
+
+        assertThat(existing("old", "young")).containsExactly("young");
+        assertThat(count("orphan_recent")).isEqualTo(1);
+    }
+
+    @Test
+    void supplementaryPlaneKeysAreMatched() {
+        String bmp = "～.jpg";
+        String supplementary = "😀.jpg";
+        putOld(bmp, supplementary, "z");
+        addDbKeys(bmp, supplementary, "z");
+        ReflectionTestUtils.setField(service, "pageSize", 1);
+
+        service.reconcile();
+
+        assertThat(existing(bmp, supplementary, "z")).containsExactly(bmp, supplementary, "z");
+        assertThat(count("orphan_found")).isZero();
+        assertThat(count("missing_in_s3")).isZero();
+    }
+
+    @Test
+    void resumesFromCheckpoint() {
+        putOld("a", "b", "c", "d");
+        addDbKeys("b", "d");
+        checkpoint.set(PREFIX + "b");
+
+        service.reconcile();
+
+        // 체크포인트 이전의 고아(a)는 다음 검사에서 처리
+        assertThat(existing("a", "b", "c", "d")).containsExactly("a", "b", "d");
+        assertThat(count("orphan_deleted")).isEqualTo(1);
+        assertThat(checkpoint.get()).isNull();
+    }
+
+    @Test
+    void dryRunCountsFindingsWithoutDeleting() {
+        ReflectionTestUtils.setField(service, "dryRun", true);
+        putOld("a", "b");
+        addDbKeys("a");
+        // 첫 배치 500건 + 다음 배치 2건 (dry-run은 지우지 않으므로 ID 커서로 다음 배치 조회)
+        when(photoRepository.findTop500ByFrameActiveTrueAndS3FileNameAndRegisterDatetimeLessThanAndPhotoIdGreaterThanOrderByPhotoIdAsc(
+                eq("temp_file"), anyLong(), eq(0L))).thenReturn(placeholders(1, 500));
+        when(photoRepository.findTop500ByFrameActiveTrueAndS3FileNameAndRegisterDatetimeLessThanAndPhotoIdGreaterThanOrderByPhotoIdAsc(
+                eq("temp_file"), anyLong(), eq(500L))).thenReturn(placeholders(501, 502));
+
+        service.reconcile();
+
+        assertThat(existing("a", "b")).containsExactly("a", "b");
+        assertThat(count("orphan_found")).isEqualTo(1);
+        assertThat(count("orphan_deleted")).isZero();
+        assertThat(count("placeholder_found")).isEqualTo(502);
+        assertThat(count("placeholder_expired")).isZero();
+        verify(photoRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    private static List<Photo> placeholders(long fromId, long toId) {
+        List<Photo> photos = new ArrayList<>();
+        for (long photoId = fromId; photoId <= toId; photoId++) {
+            photos.add(Photo.builder().photoId(photoId).build());
+        }
+        return photos;
+    }
+
+    private void putOld(String... names) {
+        Date old = new Date(System.currentTimeMillis() - GRACE.toMillis() * 2);
+        for (String name : names) {
+            amazonS3.putBytes(BUCKET, PREFIX + name, new byte[1], old);
+        }
+    }
+
+    private void addDbKeys(String... names) {
+        for (String name : names) {
+            dbKeys.add(PREFIX + name);
+        }
+    }
+
+    private List<String> sortedDbKeys(String prefix) {
+        return dbKeys.stream()
+                .filter(key -> key.startsWith(prefix))
+                .sorted(S3ReconciliationService::compareKeys)
+                .toList();
+    }
+
+    private List<String> existing(String... names) {
+        List<String> existing = new ArrayList<>();
+        for (String name : names) {
+            if (amazonS3.contains(BUCKET, PREFIX + name)) {
+                existing.add(name);
+            }
+        }
+        return existing;
+    }
+
+    private double count(String result) {
+        Counter counter = registry.find("photo.reconciliation.items").tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,68 @@
+package picto.com.photostore.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import picto.com.photostore.exception.ResourceBusyException;
+import picto.com.photostore.exception.SessionSchedulerException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class SessionSchedulerClientTest {
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final ConcurrencyLimiter concurrencyLimiter = new ConcurrencyLimiter(1, 1, 1, 50);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private SessionSchedulerClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = new SessionSchedulerClient(restTemplate, concurrencyLimiter, new PhotoMetrics(registry, concurrencyLimiter));
+        ReflectionTestUtils.setField(client, "baseUrl", "http://scheduler");
+        ReflectionTestUtils.setField(client, "schedulerEnabled", true);
+    }
+
+    @Test
+    void busyLimiterIsPropagatedAsResourceBusy() {
+        // 스케줄러 permit을 모두 사용 중이면 500(SessionSchedulerException)이 아니라 503으로 응답해야 함
+        assertThatThrownBy(() -> concurrencyLimiter.run(ConcurrencyLimiter.Resource.SCHEDULER,
+                () -> client.scheduleSession(1L, 2L, 127.0, 37.5)))
+                .isExactlyInstanceOf(ResourceBusyException.class);
+
+        verifyNoInteractions(restTemplate);
+        assertThat(registry.get("photo.session.scheduler.skipped").tag("reason", "busy").counter().count()).isEqualTo(1);
+        assertThat(registry.find("photo.session.scheduler.requests").timers()).isEmpty();
+    }
+
+    @Test
+    void disabledSchedulerIsCountedWithoutLatency() {
+        ReflectionTestUtils.setField(client, "schedulerEnabled", false);
+
+        client.scheduleSession(1L, 2L, 127.0, 37.5);
+
+        verifyNoInteractions(restTemplate);
+        assertThat(registry.get("photo.session.scheduler.skipped").tag("reason", "disabled").counter().count()).isEqualTo(1);
+        assertThat(registry.find("photo.session.scheduler.requests").timers()).isEmpty();
+    }
+
+    @Test
+    void schedulerFailureIsWrapped() {
+        when(restTemplate.postForEntity(anyString(), any(), eq(Void.class)))
+                .thenThrow(new ResourceAccessException("connection refused"));
+
+        assertThatThrownBy(() -> client.scheduleSession(1L, 2L, 127.0, 37.5))
+                .isInstanceOf(SessionSchedulerException.class);
+
+        assertThat(registry.get("photo.session.scheduler.requests").tag("outcome", PhotoMetrics.ERROR).timer().count()).isEqualTo(1);
+    }
+}
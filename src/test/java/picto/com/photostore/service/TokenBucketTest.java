@@ -0,0 +1,49 @@
+package picto.com.photostore.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+    private static final long INTERVAL = TimeUnit.SECONDS.toNanos(2);
+
+    @Test
+    void allowsBurstThenRejectsUntilNextToken() {
+        TokenBucket bucket = new TokenBucket(INTERVAL, 3, 0);
+
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        // 네 번째 토큰은 한 간격 뒤에 채워짐
+        assertThat(bucket.tryAcquire(0)).isEqualTo(INTERVAL);
+        assertThat(bucket.tryAcquire(INTERVAL / 2)).isEqualTo(INTERVAL / 2);
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        TokenBucket bucket = new TokenBucket(INTERVAL, 2, 0);
+        bucket.tryAcquire(0);
+        bucket.tryAcquire(0);
+
+        assertThat(bucket.tryAcquire(INTERVAL)).isZero();
+        assertThat(bucket.tryAcquire(INTERVAL)).isEqualTo(INTERVAL);
+        // 오래 쉬어도 버킷 크기 이상은 쌓이지 않음
+        long later = INTERVAL * 100;
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void refundRestoresToken() {
+        TokenBucket bucket = new TokenBucket(INTERVAL, 1, 0);
+        assertThat(bucket.tryAcquire(0)).isZero();
+
+        bucket.refund();
+
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isEqualTo(INTERVAL);
+    }
+}
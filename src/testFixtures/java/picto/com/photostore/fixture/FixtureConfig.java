@@ -0,0 +1,20 @@
+package picto.com.photostore.fixture;
+
+import com.amazonaws.services.s3.AmazonS3;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+// 실제 S3 클라이언트 대신 인메모리 S3 주입
+// fixture가 test 클래스패스에도 올라가므로 컴포넌트 스캔에 걸려도 fixture 프로필에서만 적용
+@Configuration
+@Profile(PhotoStoreFixture.PROFILE)
+public class FixtureConfig {
+
+    @Bean
+    @Primary
+    public AmazonS3 inMemoryAmazonS3() {
+        return new InMemoryAmazonS3();
+    }
+}
@@ -0,0 +1,187 @@
+package picto.com.photostore.fixture;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.*;
+import com.amazonaws.util.IOUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// 벤치마크/부하 테스트용 인메모리 S3 (S3Service가 사용하는 연산만 지원)
+// 목록 조회가 실제 S3처럼 키의 UTF-8 바이트 순서(= 코드 포인트 순)로 나오도록 정렬 맵 사용
+// 부하 테스트는 같은 파일 몇 개를 반복해서 올리므로 내용이 같은 객체는 바이트 배열을 공유해 힙 사용량을 제한
+public class InMemoryAmazonS3 extends AbstractAmazonS3 {
+    private final NavigableMap<String, StoredObject> objects = new ConcurrentSkipListMap<>(InMemoryAmazonS3::compareCodePoints);
+    private final Map<String, byte[]> contents = new ConcurrentHashMap<>();
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest putObjectRequest) {
+        try (InputStream inputStream = putObjectRequest.getInputStream()) {
+            byte[] bytes = IOUtils.toByteArray(inputStream);
+            ObjectMetadata metadata = putObjectRequest.getMetadata() == null
+                    ? new ObjectMetadata()
+                    : putObjectRequest.getMetadata().clone();
+            metadata.setContentLength(bytes.length);
+            metadata.setLastModified(new Date());
+            objects.put(key(putObjectRequest.getBucketName(), putObjectRequest.getKey()), new StoredObject(share(bytes), metadata));
+            return new PutObjectResult();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void putBytes(String bucketName, String key, byte[] bytes) {
+        putBytes(bucketName, key, bytes, new Date());
+    }
+
+    // 수정 시각을 지정해 저장 (오래된 객체가 필요한 테스트용)
+    public void putBytes(String bucketName, String key, byte[] bytes, Date lastModified) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(bytes.length);
+        metadata.setLastModified(lastModified);
+        objects.put(key(bucketName, key), new StoredObject(share(bytes), metadata));
+    }
+
+    @Override
+    public S3Object getObject(GetObjectRequest getObjectRequest) {
+        StoredObject stored = objects.get(key(getObjectRequest.getBucketName(), getObjectRequest.getKey()));
+        if (stored == null) {
+            AmazonS3Exception exception = new AmazonS3Exception("The specified key does not exist.");
+            exception.setStatusCode(404);
+            exception.setErrorCode("NoSuchKey");
+            throw exception;
+        }
+        S3Object s3Object = new S3Object();
+        s3Object.setBucketName(getObjectRequest.getBucketName());
+        s3Object.setKey(getObjectRequest.getKey());
+        s3Object.setObjectMetadata(stored.metadata());
+        s3Object.setObjectContent(new ByteArrayInputStream(stored.bytes()));
+        return s3Object;
+    }
+
+    @Override
+    public void deleteObject(String bucketName, String key) {
+        objects.remove(key(bucketName, key));
+    }
+
+    @Override
+    public void deleteObject(DeleteObjectRequest deleteObjectRequest) {
+        deleteObject(deleteObjectRequest.getBucketName(), deleteObjectRequest.getKey());
+    }
+
+    @Override
+    public DeleteObjectsResult deleteObjects(DeleteObjectsRequest deleteObjectsRequest) {
+        for (DeleteObjectsRequest.KeyVersion keyVersion : deleteObjectsRequest.getKeys()) {
+            deleteObject(deleteObjectsRequest.getBucketName(), keyVersion.getKey());
+        }
+        return new DeleteObjectsResult(List.of());
+    }
+
+    @Override
+    public ListObjectsV2Result listObjectsV2(ListObjectsV2Request listObjectsV2Request) {
+        String bucketPrefix = key(listObjectsV2Request.getBucketName(), "");
+        String prefix = bucketPrefix + (listObjectsV2Request.getPrefix() == null ? "" : listObjectsV2Request.getPrefix());
+        String startAfter = listObjectsV2Request.getStartAfter() == null
+                ? prefix
+                : bucketPrefix + listObjectsV2Request.getStartAfter();
+        int maxKeys = listObjectsV2Request.getMaxKeys() == null ? 1000 : listObjectsV2Request.getMaxKeys();
+
+        ListObjectsV2Result result = new ListObjectsV2Result();
+        result.setBucketName(listObjectsV2Request.getBucketName());
+        result.setPrefix(listObjectsV2Request.getPrefix());
+        for (Map.Entry<String, StoredObject> entry : objects.tailMap(startAfter, false).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            if (result.getObjectSummaries().size() == maxKeys) {
+                result.setTruncated(true);
+                break;
+            }
+            S3ObjectSummary summary = new S3ObjectSummary();
+            summary.setBucketName(listObjectsV2Request.getBucketName());
+            summary.setKey(entry.getKey().substring(bucketPrefix.length()));
+            summary.setSize(entry.getValue().bytes().length);
+            summary.setLastModified(entry.getValue().metadata().getLastModified());
+            result.getObjectSummaries().add(summary);
+        }
+        result.setKeyCount(result.getObjectSummaries().size());
+        return result;
+    }
+
+    @Override
+    public URL getUrl(String bucketName, String key) {
+        try {
+            return new URL("https://" + bucketName + ".s3.local/" + key);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    // 컨텍스트 종료 시 호출됨 (AbstractAmazonS3 기본 구현은 UnsupportedOperationException)
+    @Override
+    public void shutdown() {
+    }
+
+    public int size() {
+        return objects.size();
+    }
+
+    // 저장된 객체 모두 삭제 (벤치마크 반복 사이 상태 초기화)
+    public void clear() {
+        objects.clear();
+        contents.clear();
+    }
+
+    public boolean contains(String bucketName, String key) {
+        return objects.containsKey(key(bucketName, key));
+    }
+
+    // 내용이 같은 바이트 배열은 처음 저장한 것을 재사용 (저장된 배열은 수정하지 않음)
+    private byte[] share(byte[] bytes) {
+        return contents.computeIfAbsent(digest(bytes), digest -> bytes);
+    }
+
+    private static String digest(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // String.compareTo는 UTF-16 단위로 비교하므로 보조 문자(U+10000 이상)가 U+E000~U+FFFF보다 앞에 옴
+    private static int compareCodePoints(String a, String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            int ca = a.codePointAt(i);
+            int cb = b.codePointAt(j);
+            if (ca != cb) {
+                return Integer.compare(ca, cb);
+            }
+            i += Character.charCount(ca);
+            j += Character.charCount(cb);
+        }
+        return Integer.compare(a.length() - i, b.length() - j);
+    }
+
+    private static String key(String bucketName, String key) {
+        return bucketName + "/" + key;
+    }
+
+    private record StoredObject(byte[] bytes, ObjectMetadata metadata) {
+    }
+}
@@ -0,0 +1,44 @@
+package picto.com.photostore.fixture;
+
+import java.io.ByteArrayOutputStream;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+// PhotoController의 file/request 파트 형식에 맞춘 multipart/form-data 본문
+public final class MultipartBody {
+    private final String boundary = "----picto-" + UUID.randomUUID();
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+    public MultipartBody file(String name, String fileName, String contentType, byte[] content) {
+        header("Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + fileName + "\"", contentType);
+        body.writeBytes(content);
+        body.writeBytes("\r\n".getBytes(StandardCharsets.UTF_8));
+        return this;
+    }
+
+    public MultipartBody json(String name, String json) {
+        header("Content-Disposition: form-data; name=\"" + name + "\"", "application/json");
+        body.writeBytes(json.getBytes(StandardCharsets.UTF_8));
+        body.writeBytes("\r\n".getBytes(StandardCharsets.UTF_8));
+        return this;
+    }
+
+    public String contentType() {
+        return "multipart/form-data; boundary=" + boundary;
+    }
+
+    public HttpRequest.BodyPublisher publisher() {
+        ByteArrayOutputStream complete = new ByteArrayOutputStream(body.size() + 64);
+        complete.writeBytes(body.toByteArray());
+        complete.writeBytes(("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return HttpRequest.BodyPublishers.ofByteArray(complete.toByteArray());
+    }
+
+    private void header(String disposition, String contentType) {
+        String header = "--" + boundary + "\r\n"
+                + disposition + "\r\n"
+                + "Content-Type: " + contentType + "\r\n\r\n";
+        body.writeBytes(header.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,31 @@
+package picto.com.photostore.fixture;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import picto.com.photostore.PhotoStoreApplication;
+
+// 내장 DB(H2) + 인메모리 S3로 전체 애플리케이션 컨텍스트 기동
+// DB/S3/스케줄러 설정은 fixture 프로필(application-fixture.yml)이 덮어쓰고, 없는 application-private.yml import는 무시한다.
+public final class PhotoStoreFixture {
+    public static final String PROFILE = "fixture";
+
+    // fixture-data.sql에서 생성하는 사용자 수 (user_id 1..SEEDED_USERS)
+    public static final int SEEDED_USERS = 1000;
+
+    private PhotoStoreFixture() {
+    }
+
+    public static ConfigurableApplicationContext start(WebApplicationType webApplicationType, String... args) {
+        return new SpringApplicationBuilder(PhotoStoreApplication.class, FixtureConfig.class)
+                .web(webApplicationType)
+                .profiles(PROFILE)
+                .properties("spring.config.on-not-found=ignore")
+                .run(args);
+    }
+
+    // 테스트마다 분리된 내장 DB가 필요할 때 --spring.datasource.url 로 전달
+    public static String h2Url(String databaseName) {
+        return "jdbc:h2:mem:" + databaseName + ";MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1";
+    }
+}
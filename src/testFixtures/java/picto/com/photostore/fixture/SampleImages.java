@@ -0,0 +1,62 @@
+package picto.com.photostore.fixture;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Random;
+
+// 디코딩 가능한 JPEG 샘플 생성 (seed가 같으면 같은 이미지)
+public final class SampleImages {
+
+    private SampleImages() {
+    }
+
+    public static byte[] jpeg(int width, int height, long seed) {
+        Random random = new Random(seed);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            for (int i = 0; i < 32; i++) {
+                graphics.setColor(new Color(random.nextInt(0xFFFFFF)));
+                graphics.fillRect(random.nextInt(width), random.nextInt(height),
+                        random.nextInt(width / 2 + 1), random.nextInt(height / 2 + 1));
+            }
+        } finally {
+            graphics.dispose();
+        }
+
+        return encode(image);
+    }
+
+    // 픽셀 단위 노이즈 이미지 (압축이 잘 되지 않아 실제 사진과 비슷한 파일 크기)
+    public static byte[] noisyJpeg(int width, int height, long seed) {
+        Random random = new Random(seed);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, random.nextInt(0xFFFFFF));
+            }
+        }
+        return encode(image);
+    }
+
+    public static byte[] randomBytes(int size, long seed) {
+        byte[] bytes = new byte[size];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static byte[] encode(BufferedImage image) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "jpg", outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,21 @@
+package picto.com.photostore.fixture;
+
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+// README의 MySQL 트리거(User 변경/삭제 시 CacheInvalidation 기록)와 같은 동작을 하는 H2 트리거
+public class UserInvalidationTrigger implements Trigger {
+
+    @Override
+    public void fire(Connection connection, Object[] oldRow, Object[] newRow) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO photo_schema.CacheInvalidation "
+                + "(cache_name, cache_key, node_id, created_datetime) VALUES ('user', ?, 'db-trigger', ?)")) {
+            statement.setLong(1, ((Number) oldRow[0]).longValue());
+            statement.setLong(2, System.currentTimeMillis());
+            statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,3 @@
+INSERT INTO photo_schema.User (password, name, email, profile_active, profile_photo_path, intro, account_name)
+SELECT 'password', CONCAT('user', X), CONCAT('user', X, '@picto.local'), 1, NULL, 'fixture', CONCAT('account', X)
+FROM SYSTEM_RANGE(1, 1000);
@@ -0,0 +1,50 @@
+CREATE SCHEMA IF NOT EXISTS photo_schema;
+
+CREATE TABLE IF NOT EXISTS photo_schema.User (
+    user_id            BIGINT AUTO_INCREMENT PRIMARY KEY,
+    password           VARCHAR(100) NOT NULL,
+    name               VARCHAR(20)  NOT NULL,
+    email              VARCHAR(30)  NOT NULL,
+    profile_active     TINYINT      NOT NULL,
+    profile_photo_path VARCHAR(50),
+    intro              VARCHAR(30)  NOT NULL,
+    account_name       VARCHAR(20)  NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS photo_schema.Photo (
+    photo_id          BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id           BIGINT,
+    photo_path        VARCHAR(255),
+    s3_file_name      VARCHAR(255),
+    tag               VARCHAR(20),
+    lat               DOUBLE       NOT NULL,
+    lng               DOUBLE       NOT NULL,
+    location          VARCHAR(40),
+    likes             INT DEFAULT 0 NOT NULL,
+    views             INT DEFAULT 0 NOT NULL,
+    upload_datetime   BIGINT       NOT NULL,
+    register_datetime BIGINT       NOT NULL,
+    frame_active      TINYINT      NOT NULL,
+    shared_active     TINYINT      NOT NULL,
+    perceptual_hash   BIGINT,
+    FOREIGN KEY (user_id) REFERENCES photo_schema.User (user_id)
+);
+
+CREATE TABLE IF NOT EXISTS photo_schema.CacheInvalidation (
+    invalidation_id  BIGINT AUTO_INCREMENT PRIMARY KEY,
+    cache_name       VARCHAR(20) NOT NULL,
+    cache_key        BIGINT      NOT NULL,
+    node_id          VARCHAR(36) NOT NULL,
+    created_datetime BIGINT      NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS photo_schema.ReconciliationCheckpoint (
+    job_name         VARCHAR(40) PRIMARY KEY,
+    last_key         VARCHAR(255),
+    lease_owner      VARCHAR(36),
+    lease_until      BIGINT      NOT NULL,
+    updated_datetime BIGINT      NOT NULL
+);
+
+CREATE TRIGGER IF NOT EXISTS photo_schema.user_cache_invalidation AFTER UPDATE, DELETE ON photo_schema.User
+    FOR EACH ROW CALL 'picto.com.photostore.fixture.UserInvalidationTrigger';